@@ -0,0 +1,127 @@
+#!/bin/bash
+
+# 플랫폼 스레드 / 가상 스레드 모드 부하 비교 스크립트
+# 같은 jar를 두 모드로 차례로 띄우고 동시 클라이언트 CONCURRENCY개로 DURATION 동안 요청한 뒤 처리량/지연을 비교합니다.
+#
+# 사용법: ./scripts/load-test-threads.sh
+# 필요 도구: hey (https://github.com/rakyll/hey), curl
+# 환경 변수:
+#   CONCURRENCY   동시 클라이언트 수 (기본 1000)
+#   DURATION      모드별 측정 시간 (기본 60s)
+#   TARGET_PATH   요청 경로 (기본: 캐시를 거치지 않는 교회 검색 - DB 조회가 매번 발생)
+#   BODY          요청 본문 (JSON)
+#   PROFILE       스프링 프로필 (기본 default, 실제 PostgreSQL/Redis로 측정하려면 prod)
+#   JAR           측정할 jar 경로 (없으면 bootJar로 빌드)
+
+set -e
+
+# 색상 정의
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+# 기본 설정
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+CONCURRENCY="${CONCURRENCY:-1000}"
+DURATION="${DURATION:-60s}"
+TARGET_PATH="${TARGET_PATH:-/api/churches/search}"
+BODY="${BODY:-{\"keyword\":\"교회\"}}"
+PROFILE="${PROFILE:-default}"
+JAR="${JAR:-build/libs/twothree-backend-0.0.1-SNAPSHOT.jar}"
+RESULT_DIR="${RESULT_DIR:-build/load-test}"
+
+log_info() {
+    echo -e "${BLUE}[INFO]${NC} $1"
+}
+
+log_success() {
+    echo -e "${GREEN}[SUCCESS]${NC} $1"
+}
+
+log_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+if ! command -v hey > /dev/null; then
+    log_error "hey가 필요합니다: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+if [ ! -f "$JAR" ]; then
+    log_info "jar 빌드 중..."
+    ./gradlew bootJar --no-daemon -q
+fi
+
+mkdir -p "$RESULT_DIR"
+
+# 서버가 뜰 때까지 대기 (최대 120초)
+wait_for_server() {
+    for _ in $(seq 1 120); do
+        if curl -s "$BASE_URL/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    return 1
+}
+
+# 모드 하나 측정: $1 = platform | virtual
+run_mode() {
+    local mode=$1
+    local virtual=false
+    if [ "$mode" = "virtual" ]; then
+        virtual=true
+    fi
+
+    log_info "[$mode] 서버 시작 (VIRTUAL_THREADS_ENABLED=$virtual)"
+    VIRTUAL_THREADS_ENABLED=$virtual java \
+        -Dspring.profiles.active="$PROFILE" \
+        -Dserver.port="$PORT" \
+        -jar "$JAR" > "$RESULT_DIR/server-$mode.log" 2>&1 &
+    local pid=$!
+
+    if ! wait_for_server; then
+        log_error "[$mode] 서버 시작 실패 - $RESULT_DIR/server-$mode.log 확인"
+        kill "$pid" 2> /dev/null || true
+        exit 1
+    fi
+
+    log_info "[$mode] 워밍업 (10s)"
+    hey -z 10s -c 100 -m POST -T "application/json" -d "$BODY" "$BASE_URL$TARGET_PATH" > /dev/null
+
+    log_info "[$mode] 측정 - 동시 $CONCURRENCY, $DURATION"
+    hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T "application/json" -d "$BODY" \
+        "$BASE_URL$TARGET_PATH" > "$RESULT_DIR/result-$mode.txt"
+
+    # 측정 중 가상 스레드 고정 발생 여부
+    if [ "$mode" = "virtual" ]; then
+        curl -s "$BASE_URL/actuator/metrics/jvm.threads.virtual.pinned" > "$RESULT_DIR/pinned-$mode.json" || true
+    fi
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    log_success "[$mode] 완료 - $RESULT_DIR/result-$mode.txt"
+}
+
+summary() {
+    local mode=$1
+    local file="$RESULT_DIR/result-$mode.txt"
+    local rps p50 p99 errors
+    rps=$(grep "Requests/sec" "$file" | awk '{print $2}')
+    p50=$(grep "50% in" "$file" | awk '{print $3}')
+    p99=$(grep "99% in" "$file" | awk '{print $3}')
+    errors=$(grep -A 20 "Status code distribution" "$file" | grep -v "\[200\]" | grep -c "\[" || true)
+    printf "%-10s %12s %10s %10s %14s\n" "$mode" "$rps" "${p50}s" "${p99}s" "$errors"
+}
+
+run_mode platform
+run_mode virtual
+
+echo
+printf "%-10s %12s %10s %10s %14s\n" "mode" "req/s" "p50" "p99" "non-200 codes"
+summary platform
+summary virtual
+echo
+log_info "가상 스레드 고정 횟수: $RESULT_DIR/pinned-virtual.json"
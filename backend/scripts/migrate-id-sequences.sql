@@ -0,0 +1,32 @@
+-- IDENTITY → 시퀀스(pooled-lo, INCREMENT BY 50) ID 전환 (PostgreSQL, 기존 운영 DB용 1회 실행)
+--
+-- 새 버전을 배포하기 전에 실행해야 합니다. 시퀀스가 없으면 ddl-auto: update가 1부터 시작하는
+-- 시퀀스를 만들어 기존 ID와 충돌합니다.
+--
+--   psql -h localhost -U twothree_user -d twothree_db -f scripts/migrate-id-sequences.sql
+--
+-- 각 시퀀스는 현재 최대 ID + 1부터 시작하고, id 컬럼의 IDENTITY 속성은 제거한 뒤
+-- 기본값을 새 시퀀스로 바꿔 애플리케이션 밖에서 넣는 INSERT도 같은 시퀀스를 쓰도록 합니다.
+-- (pooled-lo는 시퀀스 값을 블록의 시작으로 쓰므로 nextval 단건 사용과 겹치지 않습니다.)
+
+BEGIN;
+
+DO $$
+DECLARE
+    t TEXT;
+    max_id BIGINT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'churches', 'departments', 'members', 'contents',
+        'content_departments', 'member_departments', 'member_relations'
+    ] LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_seq');
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', t) INTO max_id;
+        EXECUTE format('SELECT setval(%L, %s, false)', t || '_seq', max_id + 1);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', t || '_seq', t);
+    END LOOP;
+END $$;
+
+COMMIT;
@@ -0,0 +1,90 @@
+package com.twothree.backend.cache;
+
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.dto.MemberDto;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 처리량: compact vs JSON (멤버 목록 직렬화/역직렬화)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompactRedisSerializerBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private RedisSerializer<Object> compact;
+    private RedisSerializer<Object> json;
+    private List<MemberDto> members;
+    private byte[] compactBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        compact = new CompactRedisSerializer("com.twothree.backend.", 1024, MemberDto.class);
+        json = CacheConfig.jsonRedisSerializer();
+        members = members(size);
+        compactBytes = compact.serialize(members);
+        jsonBytes = json.serialize(members);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(members);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(members);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    private static List<MemberDto> members(int count) {
+        List<MemberDto> members = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            members.add(MemberDto.builder()
+                    .id(i)
+                    .name("교인" + i)
+                    .email("member" + i + "@church.org")
+                    .phone("010-1234-" + String.format("%04d", i))
+                    .birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .status(MemberStatus.ACTIVE)
+                    .role(MemberRole.MEMBER)
+                    .churchId(1L)
+                    .departmentId(i % 5)
+                    .departmentName("부서" + (i % 5))
+                    .createdAt(LocalDateTime.of(2024, 3, 1, 10, 0).plusMinutes(i))
+                    .build());
+        }
+        return members;
+    }
+}
@@ -1,91 +1,128 @@
 package com.twothree.backend.aspect;
 
+import com.twothree.backend.config.RequestCorrelationFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 컨트롤러/서비스/도메인 호출 추적 로그
+ *
+ * - 샘플링된 요청(RequestCorrelationFilter가 결정, 요청 밖에서는 호출 단위)만 DEBUG로 남김
+ * - 느린 호출(slow-threshold 이상)과 실패는 샘플링과 무관하게 가장 바깥 호출(보통 컨트롤러)에서 한 번만 WARN으로 남김
+ *   (안쪽 계층은 샘플링된 경우에만 DEBUG로 남겨 같은 실패/지연이 계층마다 반복되지 않도록 함)
+ * - 인자는 로그가 실제로 출력될 때만, include-args가 켜진 경우에만 길이 제한을 두고 렌더링
+ * - 메시지 대신 key-value로 남겨 구조화(JSON) 로그의 필드가 되도록 함
+ */
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
-
+    
+    private static final int MAX_ARG_LENGTH = 200;
+    
+    // 현재 스레드에서 진행 중인 추적 대상 호출 깊이 (0이면 가장 바깥 호출)
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    
+    @Value("${application.logging.trace.sample-rate:0.01}")
+    private double sampleRate;
+    
+    @Value("${application.logging.trace.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+    
+    @Value("${application.logging.trace.include-args:false}")
+    private boolean includeArgs;
+    
     @Around("execution(* com.twothree.backend.controller.*.*(..))")
-    public Object logControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        
-        log.info("🚀 [CONTROLLER] {}.{}() 시작 - 파라미터: {}", 
-                className, methodName, Arrays.toString(joinPoint.getArgs()));
-        
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            log.info("✅ [CONTROLLER] {}.{}() 완료 - 실행시간: {}ms", 
-                    className, methodName, executionTime);
-            
-            return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("❌ [CONTROLLER] {}.{}() 실패 - 실행시간: {}ms - 에러: {}", 
-                    className, methodName, executionTime, e.getMessage(), e);
-            throw e;
-        }
+    public Object traceControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
     }
-
+    
     @Around("execution(* com.twothree.backend.service.*.*(..))")
-    public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        
-        log.debug("🔧 [SERVICE] {}.{}() 시작", className, methodName);
-        
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            log.debug("✅ [SERVICE] {}.{}() 완료 - 실행시간: {}ms", 
-                    className, methodName, executionTime);
-            
-            return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("❌ [SERVICE] {}.{}() 실패 - 실행시간: {}ms - 에러: {}", 
-                    className, methodName, executionTime, e.getMessage(), e);
-            throw e;
-        }
+    public Object traceServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
     }
-
+    
     @Around("execution(* com.twothree.backend.domain.*.*(..))")
-    public Object logDomainMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        
-        log.debug("🏗️ [DOMAIN] {}.{}() 시작", className, methodName);
-        
-        long startTime = System.currentTimeMillis();
-        
+    public Object traceDomainMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "domain");
+    }
+    
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        int[] depth = DEPTH.get();
+        boolean outermost = depth[0]++ == 0;
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            log.debug("✅ [DOMAIN] {}.{}() 완료 - 실행시간: {}ms", 
-                    className, methodName, executionTime);
-            
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            boolean slow = elapsedMs >= slowThresholdMs;
+            if (slow && outermost) {
+                logCall(Level.WARN, joinPoint, layer, elapsedMs, "slow", null);
+            } else if (log.isDebugEnabled() && isSampled()) {
+                logCall(Level.DEBUG, joinPoint, layer, elapsedMs, slow ? "slow" : "ok", null);
+            }
             return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("❌ [DOMAIN] {}.{}() 실패 - 실행시간: {}ms - 에러: {}", 
-                    className, methodName, executionTime, e.getMessage(), e);
+        } catch (Throwable e) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // 예외는 전역 예외 처리기가 스택과 함께 남기므로 여기서는 요약만 남김
+            if (outermost) {
+                logCall(Level.WARN, joinPoint, layer, elapsedMs, "error", e);
+            } else if (log.isDebugEnabled() && isSampled()) {
+                logCall(Level.DEBUG, joinPoint, layer, elapsedMs, "error", e);
+            }
             throw e;
+        } finally {
+            if (--depth[0] == 0) {
+                DEPTH.remove();
+            }
+        }
+    }
+    
+    private void logCall(Level level, ProceedingJoinPoint joinPoint, String layer, long elapsedMs,
+                         String outcome, Throwable error) {
+        var event = log.atLevel(level)
+                .addKeyValue("layer", layer)
+                .addKeyValue("method", () -> joinPoint.getSignature().getDeclaringType().getSimpleName()
+                        + "." + joinPoint.getSignature().getName())
+                .addKeyValue("durationMs", elapsedMs)
+                .addKeyValue("outcome", outcome);
+        if (includeArgs) {
+            event = event.addKeyValue("args", () -> renderArgs(joinPoint.getArgs()));
+        }
+        if (error != null) {
+            event = event.addKeyValue("error", () -> error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+        event.log("trace {} {}", layer, outcome);
+    }
+    
+    private boolean isSampled() {
+        String sampled = MDC.get(RequestCorrelationFilter.TRACE_SAMPLED);
+        if (sampled != null) {
+            return Boolean.parseBoolean(sampled);
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+    
+    /**
+     * 인자별로 길이를 잘라 렌더링 (대용량 DTO/파일 전체 직렬화 방지)
+     */
+    private static String renderArgs(Object[] args) {
+        StringBuilder rendered = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            String value = String.valueOf(args[i]);
+            rendered.append(value.length() > MAX_ARG_LENGTH ? value.substring(0, MAX_ARG_LENGTH) + "…" : value);
         }
+        return rendered.append(']').toString();
     }
-} 
\ No newline at end of file
+}
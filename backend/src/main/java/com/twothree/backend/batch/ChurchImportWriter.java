@@ -0,0 +1,51 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.repository.BulkInsertRepository;
+import com.twothree.backend.repository.ChurchRepository;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 교회명 중복(기존 데이터 + 같은 파일 내)을 청크당 한 번의 조회로 거른 뒤 일괄 INSERT
+ */
+public class ChurchImportWriter extends ImportChunkWriter<Church> {
+    
+    private final ChurchRepository churchRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    
+    public ChurchImportWriter(ChurchRepository churchRepository, BulkInsertRepository bulkInsertRepository,
+                              StepExecution stepExecution) {
+        super(stepExecution);
+        this.churchRepository = churchRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+    }
+    
+    @Override
+    protected List<Church> validate(List<? extends ImportItem<Church>> items, List<String> rejections) {
+        Set<String> names = items.stream()
+                .map(item -> item.getEntity().getName())
+                .collect(Collectors.toSet());
+        Set<String> taken = new HashSet<>(churchRepository.findExistingNames(names));
+        
+        List<Church> accepted = new ArrayList<>();
+        for (ImportItem<Church> item : items) {
+            if (!taken.add(item.getEntity().getName())) {
+                rejections.add(rejection(item, "church name already exists: " + item.getEntity().getName()));
+                continue;
+            }
+            accepted.add(item.getEntity());
+        }
+        return accepted;
+    }
+    
+    @Override
+    protected void insert(List<Church> entities) {
+        bulkInsertRepository.insertChurches(entities, CREATED_BY);
+    }
+}
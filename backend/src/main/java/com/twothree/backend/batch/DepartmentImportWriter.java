@@ -0,0 +1,52 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.repository.BulkInsertRepository;
+import com.twothree.backend.repository.DepartmentRepository;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 교회 내 부서명 중복을 청크당 한 번의 조회로 거른 뒤 일괄 INSERT
+ */
+public class DepartmentImportWriter extends ImportChunkWriter<Department> {
+    
+    private final DepartmentRepository departmentRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final Long churchId;
+    
+    public DepartmentImportWriter(DepartmentRepository departmentRepository, BulkInsertRepository bulkInsertRepository,
+                                  Long churchId, StepExecution stepExecution) {
+        super(stepExecution);
+        this.departmentRepository = departmentRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.churchId = churchId;
+    }
+    
+    @Override
+    protected List<Department> validate(List<? extends ImportItem<Department>> items, List<String> rejections) {
+        // 교회당 부서 수는 많지 않으므로 이름 전체를 한 번에 조회
+        Set<String> taken = departmentRepository.findNameRowsByChurchId(churchId).stream()
+                .map(DepartmentRepository.DepartmentNameRow::getName)
+                .collect(Collectors.toSet());
+        
+        List<Department> accepted = new ArrayList<>();
+        for (ImportItem<Department> item : items) {
+            if (!taken.add(item.getEntity().getName())) {
+                rejections.add(rejection(item, "department name already exists: " + item.getEntity().getName()));
+                continue;
+            }
+            accepted.add(item.getEntity());
+        }
+        return accepted;
+    }
+    
+    @Override
+    protected void insert(List<Department> entities) {
+        bulkInsertRepository.insertDepartments(entities, CREATED_BY);
+    }
+}
@@ -0,0 +1,208 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.repository.BulkInsertRepository;
+import com.twothree.backend.repository.ChurchRepository;
+import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.File;
+
+/**
+ * 교회/부서/멤버 대량 가져오기 배치 작업
+ *
+ * 작업 파라미터: file(업로드된 파일 경로), format(CSV|XLSX), churchId(부서/멤버), uploadedAt(인스턴스 구분)
+ *
+ * - 리더: CSV/XLSX 한 행씩 읽고 읽은 위치를 ExecutionContext에 저장 (실패 후 같은 파라미터로 재실행하면 이어서 진행)
+ * - 프로세서: DB 조회 없는 행 단위 검증/변환, 실패 행은 롤백 없이 건너뜀
+ * - 라이터: 중복/참조 검증을 청크당 한 번의 조회로 처리한 뒤 JDBC 배치 INSERT
+ * - 일시적 DB 오류는 청크를 재시도하고, 제약 조건 위반은 항목 단위로 걸러 건너뜀
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ImportBatchConfig {
+
+    public static final String CHURCH_IMPORT_JOB = "churchImportJob";
+    public static final String DEPARTMENT_IMPORT_JOB = "departmentImportJob";
+    public static final String MEMBER_IMPORT_JOB = "memberImportJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ImportJobListener importJobListener;
+
+    @Value("${application.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${application.import.skip-limit:1000}")
+    private int skipLimit;
+
+    @Value("${application.import.retry-limit:3}")
+    private int retryLimit;
+
+    // ========== 작업 ==========
+
+    @Bean
+    public Job churchImportJob(Step churchImportStep) {
+        return new JobBuilder(CHURCH_IMPORT_JOB, jobRepository)
+                .listener(importJobListener)
+                .start(churchImportStep)
+                .build();
+    }
+
+    @Bean
+    public Job departmentImportJob(Step departmentImportStep) {
+        return new JobBuilder(DEPARTMENT_IMPORT_JOB, jobRepository)
+                .listener(importJobListener)
+                .start(departmentImportStep)
+                .build();
+    }
+
+    @Bean
+    public Job memberImportJob(Step memberImportStep) {
+        return new JobBuilder(MEMBER_IMPORT_JOB, jobRepository)
+                .listener(importJobListener)
+                .start(memberImportStep)
+                .build();
+    }
+
+    // ========== 스텝 ==========
+
+    @Bean
+    public Step churchImportStep(ItemStreamReader<ImportRow> importRowReader,
+                                 ItemWriter<ImportItem<Church>> churchImportWriter) {
+        return importStep("churchImportStep", importRowReader, ImportRowMapper::toChurch, churchImportWriter);
+    }
+
+    @Bean
+    public Step departmentImportStep(ItemStreamReader<ImportRow> importRowReader,
+                                     ItemProcessor<ImportRow, ImportItem<Department>> departmentImportProcessor,
+                                     ItemWriter<ImportItem<Department>> departmentImportWriter) {
+        return importStep("departmentImportStep", importRowReader, departmentImportProcessor, departmentImportWriter);
+    }
+
+    @Bean
+    public Step memberImportStep(ItemStreamReader<ImportRow> importRowReader,
+                                 ItemProcessor<ImportRow, ImportItem<Member>> memberImportProcessor,
+                                 ItemWriter<ImportItem<Member>> memberImportWriter) {
+        return importStep("memberImportStep", importRowReader, memberImportProcessor, memberImportWriter);
+    }
+
+    private <T> Step importStep(String name, ItemStreamReader<ImportRow> reader,
+                                ItemProcessor<ImportRow, ImportItem<T>> processor,
+                                ItemWriter<ImportItem<T>> writer) {
+        // 빈 행은 필터링 (filterCount로 집계)
+        ItemProcessor<ImportRow, ImportItem<T>> skipBlank = row -> row.isBlank() ? null : processor.process(row);
+
+        return new StepBuilder(name, jobRepository)
+                .<ImportRow, ImportItem<T>>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .processor(skipBlank)
+                .writer(writer)
+                .faultTolerant()
+                .skip(ImportValidationException.class)
+                .skip(FlatFileParseException.class)
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(skipLimit)
+                // 행 검증 실패는 트랜잭션과 무관하므로 청크를 롤백/재처리하지 않음
+                .noRollback(ImportValidationException.class)
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                .listener(new ImportSkipLogger())
+                .build();
+    }
+
+    // ========== 스텝 범위 컴포넌트 ==========
+
+    @Bean
+    @StepScope
+    public ItemStreamReader<ImportRow> importRowReader(
+            @Value("#{jobParameters['file']}") String file,
+            @Value("#{jobParameters['format']}") String format) {
+        return ImportRowReaders.create(new File(file), ImportFileFormat.valueOf(format));
+    }
+
+    @Bean
+    @StepScope
+    public ItemProcessor<ImportRow, ImportItem<Department>> departmentImportProcessor(
+            @Value("#{jobParameters['churchId']}") Long churchId) {
+        return row -> ImportRowMapper.toDepartment(row, churchId);
+    }
+
+    @Bean
+    @StepScope
+    public ItemProcessor<ImportRow, ImportItem<Member>> memberImportProcessor(
+            @Value("#{jobParameters['churchId']}") Long churchId) {
+        return row -> ImportRowMapper.toMember(row, churchId);
+    }
+
+    @Bean
+    @StepScope
+    public ChurchImportWriter churchImportWriter(ChurchRepository churchRepository,
+                                                 BulkInsertRepository bulkInsertRepository,
+                                                 @Value("#{stepExecution}") StepExecution stepExecution) {
+        return new ChurchImportWriter(churchRepository, bulkInsertRepository, stepExecution);
+    }
+
+    @Bean
+    @StepScope
+    public DepartmentImportWriter departmentImportWriter(DepartmentRepository departmentRepository,
+                                                         BulkInsertRepository bulkInsertRepository,
+                                                         @Value("#{jobParameters['churchId']}") Long churchId,
+                                                         @Value("#{stepExecution}") StepExecution stepExecution) {
+        return new DepartmentImportWriter(departmentRepository, bulkInsertRepository, churchId, stepExecution);
+    }
+
+    @Bean
+    @StepScope
+    public MemberImportWriter memberImportWriter(MemberRepository memberRepository,
+                                                 DepartmentRepository departmentRepository,
+                                                 BulkInsertRepository bulkInsertRepository,
+                                                 @Value("#{jobParameters['churchId']}") Long churchId,
+                                                 @Value("#{stepExecution}") StepExecution stepExecution) {
+        return new MemberImportWriter(memberRepository, departmentRepository, bulkInsertRepository, churchId, stepExecution);
+    }
+
+    /**
+     * 건너뛴 행을 사유와 함께 로그로 남김
+     */
+    private static class ImportSkipLogger implements SkipListener<ImportRow, ImportItem<?>> {
+
+        @Override
+        public void onSkipInRead(Throwable t) {
+            log.warn("가져오기 행 읽기 실패로 건너뜀: {}", t.getMessage());
+        }
+
+        @Override
+        public void onSkipInProcess(ImportRow item, Throwable t) {
+            log.warn("가져오기 행 검증 실패로 건너뜀: {}", t.getMessage());
+        }
+
+        @Override
+        public void onSkipInWrite(ImportItem<?> item, Throwable t) {
+            log.warn("가져오기 행 저장 실패로 건너뜀 - line {}: {}", item.getLineNumber(), t.getMessage());
+        }
+    }
+}
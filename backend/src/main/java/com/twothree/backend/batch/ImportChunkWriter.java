@@ -0,0 +1,72 @@
+package com.twothree.backend.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 단위 검증 + JDBC 배치 INSERT 공통 흐름
+ *
+ * 중복/참조 검사는 청크 전체에 대해 IN 조회 한 번으로 끝내고, 통과한 항목만 한 번의 배치로 넣습니다.
+ * 거부된 행은 작업을 멈추지 않고 StepExecution 컨텍스트에 건수와 앞쪽 일부 사유를 남깁니다.
+ * 중복 판단 기준은 청크마다 DB에서 다시 읽으므로, INSERT가 실패해 재시도되어도 같은 항목을 중복으로 오판하지 않습니다.
+ */
+@RequiredArgsConstructor
+public abstract class ImportChunkWriter<T> implements ItemWriter<ImportItem<T>> {
+    
+    public static final String INSERTED_COUNT = "import.inserted";
+    public static final String REJECTED_COUNT = "import.rejected";
+    public static final String REJECTIONS = "import.rejections";
+    
+    protected static final String CREATED_BY = "import";
+    private static final int MAX_REJECTION_MESSAGES = 100;
+    
+    private final StepExecution stepExecution;
+    
+    @Override
+    public void write(Chunk<? extends ImportItem<T>> chunk) {
+        List<String> rejections = new ArrayList<>();
+        List<T> accepted = validate(chunk.getItems(), rejections);
+        if (!accepted.isEmpty()) {
+            insert(accepted);
+        }
+        record(accepted.size(), rejections);
+    }
+    
+    /**
+     * 청크 전체를 한 번에 검증하고 저장할 엔티티만 반환 (거부 사유는 rejections에 추가)
+     */
+    protected abstract List<T> validate(List<? extends ImportItem<T>> items, List<String> rejections);
+    
+    protected abstract void insert(List<T> entities);
+    
+    protected static String rejection(ImportItem<?> item, String reason) {
+        return "line " + item.getLineNumber() + ": " + reason;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void record(int inserted, List<String> rejections) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(INSERTED_COUNT, context.getLong(INSERTED_COUNT, 0L) + inserted);
+        if (rejections.isEmpty()) {
+            return;
+        }
+        context.putLong(REJECTED_COUNT, context.getLong(REJECTED_COUNT, 0L) + rejections.size());
+        
+        ArrayList<String> messages = context.containsKey(REJECTIONS)
+                ? new ArrayList<>((List<String>) context.get(REJECTIONS))
+                : new ArrayList<>();
+        for (String rejection : rejections) {
+            if (messages.size() >= MAX_REJECTION_MESSAGES) {
+                break;
+            }
+            messages.add(rejection);
+        }
+        context.put(REJECTIONS, messages);
+    }
+}
@@ -0,0 +1,25 @@
+package com.twothree.backend.batch;
+
+import java.util.Locale;
+
+public enum ImportFileFormat {
+    CSV,
+    XLSX;
+    
+    /**
+     * 업로드 파일 확장자로 형식 판단 (알 수 없으면 null)
+     */
+    public static ImportFileFormat fromFileName(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".xlsx")) {
+            return XLSX;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.twothree.backend.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검증/변환을 마친 가져오기 항목
+ *
+ * reference는 청크 단위로 한꺼번에 해석할 외부 참조 이름입니다 (멤버의 부서명 등).
+ */
+@Getter
+@AllArgsConstructor
+public class ImportItem<T> {
+    private final long lineNumber;
+    private final T entity;
+    private final String reference;
+    
+    public static <T> ImportItem<T> of(long lineNumber, T entity) {
+        return new ImportItem<>(lineNumber, entity, null);
+    }
+}
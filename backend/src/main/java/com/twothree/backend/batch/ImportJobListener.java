@@ -0,0 +1,75 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
+import com.twothree.backend.service.CacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 가져오기 작업 종료 후 처리
+ *
+ * JDBC로 직접 넣은 행은 캐시 무효화/인덱스 이벤트/통계 카운터를 거치지 않으므로 작업 단위로 한 번에 반영합니다.
+ * 실패한 작업의 업로드 파일은 재시작을 위해 남겨 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobListener implements JobExecutionListener {
+    
+    private final CacheInvalidator cacheInvalidator;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
+    
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        JobParameters parameters = jobExecution.getJobParameters();
+        String jobName = jobExecution.getJobInstance().getJobName();
+        Long churchId = parameters.getLong("churchId");
+        
+        if (ImportBatchConfig.CHURCH_IMPORT_JOB.equals(jobName)) {
+            cacheInvalidator.evictChurchList();
+        } else if (churchId != null) {
+            cacheInvalidator.evictChurch(churchId);
+            reconcileStatistics(churchId);
+        }
+        if (ImportBatchConfig.MEMBER_IMPORT_JOB.equals(jobName)) {
+            // 다른 인스턴스의 자동완성 인덱스도 함께 재구성
+            cacheInvalidator.evictMemberTypeahead();
+        }
+        
+        log.info("가져오기 작업 종료 - job: {}, status: {}, churchId: {}, steps: {}",
+                jobName, jobExecution.getStatus(), churchId, jobExecution.getStepExecutions());
+        
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            deleteUpload(parameters.getString("file"));
+        }
+    }
+    
+    private void reconcileStatistics(Long churchId) {
+        try {
+            churchStatisticsDomainService.reconcile(churchId);
+        } catch (RuntimeException e) {
+            // 주기 보정 작업이 다시 맞추므로 작업 결과에는 영향 없음
+            log.warn("가져오기 후 교회 통계 보정 실패 - churchId: {}, error: {}", churchId, e.getMessage());
+        }
+    }
+    
+    private void deleteUpload(String file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(file));
+        } catch (IOException e) {
+            log.warn("가져오기 업로드 파일 삭제 실패 - file: {}, error: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.twothree.backend.batch;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 가져오기 파일의 한 행 (헤더명 → 셀 값)
+ *
+ * 헤더는 대소문자/공백/밑줄을 무시하고 비교하므로 "Birth Date", "birth_date", "birthDate"가 모두 같은 열입니다.
+ * 내보내기 파일의 헤더를 그대로 다시 가져올 수 있습니다.
+ */
+@Getter
+public class ImportRow {
+    
+    private final long lineNumber;
+    private final Map<String, String> values;
+    
+    public ImportRow(long lineNumber, Map<String, String> values) {
+        this.lineNumber = lineNumber;
+        this.values = values;
+    }
+    
+    public static ImportRow of(long lineNumber, String[] headers, String[] cells) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < headers.length && i < cells.length; i++) {
+            values.put(normalizeHeader(headers[i]), cells[i]);
+        }
+        return new ImportRow(lineNumber, values);
+    }
+    
+    public static String normalizeHeader(String header) {
+        if (header == null) {
+            return "";
+        }
+        return header.replace("\uFEFF", "")
+                .replace(" ", "")
+                .replace("_", "")
+                .toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 앞뒤 공백을 제거한 값 (비어 있으면 null)
+     */
+    public String get(String column) {
+        String value = values.get(column);
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+    
+    public boolean isBlank() {
+        return values.values().stream().allMatch(v -> v == null || v.isBlank());
+    }
+}
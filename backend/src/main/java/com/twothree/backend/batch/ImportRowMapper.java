@@ -0,0 +1,149 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.enums.DepartmentCategory;
+import com.twothree.backend.enums.DepartmentStatus;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * 행 → 엔티티 변환과 행 단위 검증 (DB 조회 없이 가능한 검사만)
+ *
+ * 중복/참조 검사처럼 DB가 필요한 검증은 라이터가 청크 단위로 한 번에 수행합니다.
+ */
+public final class ImportRowMapper {
+    
+    private ImportRowMapper() {
+    }
+    
+    public static ImportItem<Church> toChurch(ImportRow row) {
+        Church church = Church.builder()
+                .name(required(row, "name"))
+                .description(row.get("description"))
+                .address(required(row, "address"))
+                .phone(row.get("phone"))
+                .email(email(row, "email", false))
+                .website(row.get("website"))
+                .pastorName(row.get("pastorname"))
+                .pastorPhone(row.get("pastorphone"))
+                .pastorEmail(email(row, "pastoremail", false))
+                .status(enumValue(row, "status", ChurchStatus.class, ChurchStatus.ACTIVE))
+                .build();
+        return ImportItem.of(row.getLineNumber(), church);
+    }
+    
+    public static ImportItem<Department> toDepartment(ImportRow row, Long churchId) {
+        Department department = Department.builder()
+                .name(required(row, "name"))
+                .description(row.get("description"))
+                .color(row.get("color"))
+                .icon(row.get("icon"))
+                .category(enumValue(row, "category", DepartmentCategory.class, null))
+                .church(Church.builder().id(churchId).build())
+                .status(enumValue(row, "status", DepartmentStatus.class, DepartmentStatus.ACTIVE))
+                .build();
+        return ImportItem.of(row.getLineNumber(), department);
+    }
+    
+    /**
+     * 부서는 이름으로 지정하며 ID 해석은 라이터가 청크 단위로 처리
+     */
+    public static ImportItem<Member> toMember(ImportRow row, Long churchId) {
+        long line = row.getLineNumber();
+        Member member = Member.builder()
+                .name(required(row, "name"))
+                .email(email(row, "email", true))
+                .phone(row.get("phone"))
+                .address(row.get("address"))
+                .birthDate(date(row, "birthdate"))
+                .gender(gender(row))
+                .status(enumValue(row, "status", MemberStatus.class, MemberStatus.ACTIVE))
+                .role(enumValue(row, "role", MemberRole.class, MemberRole.MEMBER))
+                .baptismDate(date(row, "baptismdate"))
+                .membershipDate(date(row, "membershipdate"))
+                .notes(row.get("notes"))
+                .church(Church.builder().id(churchId).build())
+                .build();
+        
+        if (member.getBirthDate() != null && member.getBirthDate().isAfter(LocalDate.now())) {
+            throw new ImportValidationException(line, "birth date cannot be in the future");
+        }
+        if (member.getBirthDate() != null && member.getBaptismDate() != null
+                && member.getBaptismDate().isBefore(member.getBirthDate())) {
+            throw new ImportValidationException(line, "baptism date cannot be before birth date");
+        }
+        if (member.getBirthDate() != null && member.getMembershipDate() != null
+                && member.getMembershipDate().isBefore(member.getBirthDate())) {
+            throw new ImportValidationException(line, "membership date cannot be before birth date");
+        }
+        return new ImportItem<>(line, member, row.get("department"));
+    }
+    
+    // ========== 필드 변환 ==========
+    
+    private static String required(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new ImportValidationException(row.getLineNumber(), column + " is required");
+        }
+        return value;
+    }
+    
+    private static String email(ImportRow row, String column, boolean required) {
+        String value = required ? required(row, column) : row.get(column);
+        if (value == null) {
+            return null;
+        }
+        if (!value.contains("@")) {
+            throw new ImportValidationException(row.getLineNumber(), "invalid email: " + value);
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * yyyy-MM-dd (구분자는 '.', '/' 도 허용)
+     */
+    private static LocalDate date(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+        } catch (DateTimeParseException e) {
+            throw new ImportValidationException(row.getLineNumber(), "invalid date in " + column + ": " + value);
+        }
+    }
+    
+    private static <E extends Enum<E>> E enumValue(ImportRow row, String column, Class<E> type, E defaultValue) {
+        String value = row.get(column);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ImportValidationException(row.getLineNumber(), "invalid " + column + ": " + value);
+        }
+    }
+    
+    private static Gender gender(ImportRow row) {
+        String value = required(row, "gender");
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "M", "남", "남자", "남성":
+                return Gender.MALE;
+            case "F", "여", "여자", "여성":
+                return Gender.FEMALE;
+            default:
+                return enumValue(row, "gender", Gender.class, null);
+        }
+    }
+}
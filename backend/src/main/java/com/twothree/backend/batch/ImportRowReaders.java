@@ -0,0 +1,46 @@
+package com.twothree.backend.batch;
+
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가져오기 파일 형식별 리더 생성
+ */
+public final class ImportRowReaders {
+    
+    private ImportRowReaders() {
+    }
+    
+    public static ItemStreamReader<ImportRow> create(File file, ImportFileFormat format) {
+        return format == ImportFileFormat.XLSX ? new XlsxImportRowReader(file) : csv(file);
+    }
+    
+    /**
+     * UTF-8 CSV (RFC 4180 따옴표 규칙, 따옴표 안 줄바꿈 허용, 첫 줄 헤더)
+     *
+     * 헤더 줄은 건너뛰면서 토크나이저의 열 이름으로 씁니다. 재시작 시에도 헤더를 다시 읽은 뒤
+     * 저장된 줄 수만큼 건너뜁니다.
+     */
+    public static FlatFileItemReader<ImportRow> csv(File file) {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        String[][] headers = {new String[0]};
+        
+        return new FlatFileItemReaderBuilder<ImportRow>()
+                .name("csvImportRowReader")
+                .resource(new FileSystemResource(file))
+                .encoding(StandardCharsets.UTF_8.name())
+                .recordSeparatorPolicy(new DefaultRecordSeparatorPolicy())
+                .linesToSkip(1)
+                .skippedLinesCallback(header -> headers[0] = tokenizer.tokenize(header).getValues())
+                .lineMapper((line, lineNumber) ->
+                        ImportRow.of(lineNumber, headers[0], tokenizer.tokenize(line).getValues()))
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.twothree.backend.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportTarget {
+    CHURCHES(ImportBatchConfig.CHURCH_IMPORT_JOB, false),
+    DEPARTMENTS(ImportBatchConfig.DEPARTMENT_IMPORT_JOB, true),
+    MEMBERS(ImportBatchConfig.MEMBER_IMPORT_JOB, true);
+    
+    private final String jobName;
+    private final boolean churchScoped;
+}
@@ -0,0 +1,11 @@
+package com.twothree.backend.batch;
+
+/**
+ * 행 단위 검증 실패 (해당 행만 건너뛰고 작업은 계속 진행)
+ */
+public class ImportValidationException extends RuntimeException {
+    
+    public ImportValidationException(long lineNumber, String message) {
+        super("line " + lineNumber + ": " + message);
+    }
+}
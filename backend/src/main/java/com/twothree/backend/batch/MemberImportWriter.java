@@ -0,0 +1,81 @@
+package com.twothree.backend.batch;
+
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.repository.BulkInsertRepository;
+import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.repository.MemberRepository;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 멤버 일괄 INSERT
+ *
+ * 이메일 중복은 청크당 IN 조회 한 번, 부서명 → ID 매핑은 스텝당 한 번 조회로 처리합니다.
+ */
+public class MemberImportWriter extends ImportChunkWriter<Member> {
+    
+    private final MemberRepository memberRepository;
+    private final DepartmentRepository departmentRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final Long churchId;
+    private Map<String, Long> departmentIds;
+    
+    public MemberImportWriter(MemberRepository memberRepository, DepartmentRepository departmentRepository,
+                              BulkInsertRepository bulkInsertRepository, Long churchId, StepExecution stepExecution) {
+        super(stepExecution);
+        this.memberRepository = memberRepository;
+        this.departmentRepository = departmentRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.churchId = churchId;
+    }
+    
+    @Override
+    protected List<Member> validate(List<? extends ImportItem<Member>> items, List<String> rejections) {
+        Set<String> emails = items.stream()
+                .map(item -> item.getEntity().getEmail())
+                .collect(Collectors.toSet());
+        Set<String> taken = new HashSet<>(memberRepository.findExistingEmails(emails));
+        Map<String, Long> departments = departmentIds();
+        
+        List<Member> accepted = new ArrayList<>();
+        for (ImportItem<Member> item : items) {
+            Member member = item.getEntity();
+            if (!taken.add(member.getEmail())) {
+                rejections.add(rejection(item, "email already exists: " + member.getEmail()));
+                continue;
+            }
+            String departmentName = item.getReference();
+            if (departmentName != null) {
+                Long departmentId = departments.get(departmentName);
+                if (departmentId == null) {
+                    rejections.add(rejection(item, "department not found: " + departmentName));
+                    continue;
+                }
+                member.setDepartment(Department.builder().id(departmentId).build());
+            }
+            accepted.add(member);
+        }
+        return accepted;
+    }
+    
+    @Override
+    protected void insert(List<Member> entities) {
+        bulkInsertRepository.insertMembers(entities, CREATED_BY);
+    }
+    
+    private Map<String, Long> departmentIds() {
+        if (departmentIds == null) {
+            departmentIds = departmentRepository.findNameRowsByChurchId(churchId).stream()
+                    .collect(Collectors.toMap(DepartmentRepository.DepartmentNameRow::getName,
+                            DepartmentRepository.DepartmentNameRow::getId, (a, b) -> a));
+        }
+        return departmentIds;
+    }
+}
@@ -0,0 +1,102 @@
+package com.twothree.backend.batch;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.io.File;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * XLSX 첫 시트를 한 행씩 읽는 리더
+ *
+ * 첫 행은 헤더입니다. 읽은 행 수가 ExecutionContext에 저장되므로 재시작하면
+ * 마지막으로 커밋된 청크 다음 행부터 이어서 읽습니다 (jumpToItem으로 바로 이동).
+ * 날짜 서식 셀은 ISO 날짜 문자열로, 나머지는 화면에 보이는 값 그대로 변환합니다.
+ */
+public class XlsxImportRowReader extends AbstractItemCountingItemStreamItemReader<ImportRow> {
+    
+    private final File file;
+    private final DataFormatter formatter = new DataFormatter();
+    
+    private OPCPackage opcPackage;
+    private XSSFWorkbook workbook;
+    private Sheet sheet;
+    private String[] headers;
+    private int nextRowIndex;
+    
+    public XlsxImportRowReader(File file) {
+        this.file = file;
+        setName("xlsxImportRowReader");
+    }
+    
+    @Override
+    protected void doOpen() throws Exception {
+        opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        workbook = new XSSFWorkbook(opcPackage);
+        sheet = workbook.getSheetAt(0);
+        
+        int headerIndex = sheet.getFirstRowNum();
+        Row headerRow = sheet.getRow(headerIndex);
+        if (headerRow == null) {
+            headers = new String[0];
+        } else {
+            headers = new String[Math.max(headerRow.getLastCellNum(), 0)];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = formatter.formatCellValue(headerRow.getCell(i));
+            }
+        }
+        nextRowIndex = headerIndex + 1;
+    }
+    
+    @Override
+    protected ImportRow doRead() {
+        if (sheet == null || nextRowIndex > sheet.getLastRowNum()) {
+            return null;
+        }
+        int rowIndex = nextRowIndex++;
+        Row row = sheet.getRow(rowIndex);
+        Map<String, String> values = new HashMap<>();
+        if (row != null) {
+            for (int i = 0; i < headers.length; i++) {
+                values.put(ImportRow.normalizeHeader(headers[i]), cellText(row.getCell(i)));
+            }
+        }
+        return new ImportRow(rowIndex + 1, values);
+    }
+    
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        nextRowIndex = sheet.getFirstRowNum() + 1 + itemIndex;
+    }
+    
+    @Override
+    protected void doClose() throws Exception {
+        sheet = null;
+        if (workbook != null) {
+            // 읽기 전용으로 연 패키지는 저장하지 않고 닫음
+            opcPackage.revert();
+            workbook = null;
+            opcPackage = null;
+        }
+    }
+    
+    private String cellText(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(cell.getLocalDateTimeCellValue().toLocalDate());
+        }
+        return formatter.formatCellValue(cell);
+    }
+}
@@ -0,0 +1,56 @@
+package com.twothree.backend.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 무효화 메시지 발행 (Redis pub/sub)
+ *
+ * 메시지 형식: {instanceId}|{cacheName}|{E|C}|{key}. 자기 인스턴스가 보낸 메시지는 수신 측에서 무시합니다.
+ * 발행 실패는 로그만 남기며, 이 경우 다른 인스턴스의 L1은 자체 TTL로 만료됩니다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+    
+    public static final String CHANNEL = "cache:invalidation";
+    
+    static final String EVICT = "E";
+    public static final String CLEAR = "C";
+    private static final String SEPARATOR = "|";
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+    
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, instanceId, cacheName, EVICT, key));
+    }
+    
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, instanceId, cacheName, CLEAR, ""));
+    }
+    
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - message: {}, error: {}", message, e.getMessage());
+        }
+    }
+    
+    /**
+     * [instanceId, cacheName, action, key] (형식이 맞지 않으면 null)
+     */
+    public static String[] parse(String message) {
+        String[] parts = message.split("\\|", 4);
+        return parts.length == 4 ? parts : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.twothree.backend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 값 + 조기 갱신 판단용 메타데이터 (적재 소요 시간, L2 만료 시각)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+    
+    private Object value;
+    private long computeMillis;
+    private long expiresAt;
+    
+    /**
+     * 메타데이터 없이 저장된 값(이전 형식, 직접 put)은 조기 갱신 대상에서 제외
+     */
+    static CachedValue of(Object stored) {
+        if (stored instanceof CachedValue cachedValue) {
+            return cachedValue;
+        }
+        return new CachedValue(stored, 0L, Long.MAX_VALUE);
+    }
+    
+    /**
+     * 확률적 조기 갱신(XFetch): 만료가 가까울수록, 적재 비용이 클수록 높은 확률로 true
+     *
+     * @param beta          1보다 크면 더 일찍 갱신
+     * @param minDeltaMillis 적재가 매우 빠른 경우에도 적용할 최소 적재 시간
+     */
+    boolean shouldRefreshEarly(double beta, long minDeltaMillis) {
+        if (expiresAt == Long.MAX_VALUE) {
+            return false;
+        }
+        long delta = Math.max(computeMillis, minDeltaMillis);
+        double gap = -delta * beta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= expiresAt;
+    }
+}
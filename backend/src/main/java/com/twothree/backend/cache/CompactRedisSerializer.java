@@ -0,0 +1,451 @@
+package com.twothree.backend.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 DTO용 스키마 기반 바이너리 직렬화기
+ *
+ * JSON 직렬화기는 값마다 필드명과 클래스명을 반복해서 싣습니다. 이 직렬화기는 클래스별 필드 순서(스키마)를
+ * 한 번만 기록하고 값은 태그 + 가변 길이 정수로 씁니다. 목록 안의 같은 클래스는 문자열 테이블 참조로 대체됩니다.
+ * 스키마 지문이 현재 클래스와 다르면(필드 추가/변경 후 배포) 역직렬화 예외를 던지고, 캐시 오류 처리기에서
+ * 미스로 취급되어 다시 적재됩니다. 결과가 임계값보다 크면 Deflate로 압축합니다.
+ * 캐시 값 타입을 생성 시 등록하면 지원하지 않는 필드 타입(BigDecimal, Map, Instant 등)을 기동 시점에 거부합니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    
+    private static final byte MAGIC = 0x23;
+    private static final byte FLAG_DEFLATED = 0x01;
+    
+    private static final int T_NULL = 0;
+    private static final int T_STRING = 1;
+    private static final int T_LONG = 2;
+    private static final int T_INT = 3;
+    private static final int T_BOOLEAN_TRUE = 4;
+    private static final int T_BOOLEAN_FALSE = 5;
+    private static final int T_DOUBLE = 6;
+    private static final int T_ENUM = 7;
+    private static final int T_LOCAL_DATE = 8;
+    private static final int T_LOCAL_DATE_TIME = 9;
+    private static final int T_LIST = 10;
+    private static final int T_OBJECT = 11;
+    
+    private static final Map<Class<?>, Schema> SCHEMAS = new ConcurrentHashMap<>();
+    
+    private static final Set<Class<?>> SCALAR_TYPES = Set.of(
+            String.class, Long.class, long.class, Integer.class, int.class, Boolean.class, boolean.class,
+            Double.class, double.class, LocalDate.class, LocalDateTime.class);
+    
+    private final String allowedPackage;
+    private final int compressionThreshold;
+    
+    /**
+     * @param allowedPackage       역직렬화를 허용할 DTO 패키지 접두어
+     * @param compressionThreshold 이 크기(바이트)를 넘으면 압축
+     * @param valueTypes           캐시에 담길 값 타입 (필드까지 지원 타입인지 미리 검사)
+     * @throws IllegalArgumentException 지원하지 않는 타입의 필드가 있는 경우
+     */
+    public CompactRedisSerializer(String allowedPackage, int compressionThreshold, Class<?>... valueTypes) {
+        this.allowedPackage = allowedPackage;
+        this.compressionThreshold = compressionThreshold;
+        Set<Class<?>> checked = new HashSet<>();
+        for (Class<?> valueType : valueTypes) {
+            checkSupported(valueType, valueType.getSimpleName(), checked);
+        }
+    }
+    
+    private void checkSupported(Type type, String path, Set<Class<?>> checked) {
+        if (type instanceof ParameterizedType parameterized
+                && (parameterized.getRawType() == List.class || parameterized.getRawType() == Collection.class)) {
+            // 역직렬화 결과가 ArrayList이므로 List/Collection만 허용
+            checkSupported(parameterized.getActualTypeArguments()[0], path + "[]", checked);
+            return;
+        }
+        if (type instanceof Class<?> c) {
+            if (SCALAR_TYPES.contains(c) || c.isEnum()) {
+                return;
+            }
+            if (c.getName().startsWith(allowedPackage) && !c.isInterface() && !Modifier.isAbstract(c.getModifiers())) {
+                if (checked.add(c)) {
+                    for (Field field : Schema.of(c).fields) {
+                        checkSupported(field.getGenericType(), path + "." + field.getName(), checked);
+                    }
+                }
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported type for compact cache serializer: " + path + " (" + type.getTypeName() + ")");
+    }
+    
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Writer writer = new Writer();
+        try {
+            writer.writeValue(value);
+        } catch (ReflectiveOperationException e) {
+            throw new SerializationException("Cannot serialize " + value.getClass().getName(), e);
+        }
+        
+        byte[] body = writer.out.toByteArray();
+        boolean deflate = body.length > compressionThreshold;
+        if (deflate) {
+            body = deflate(body);
+        }
+        byte[] result = new byte[body.length + 2];
+        result[0] = MAGIC;
+        result[1] = deflate ? FLAG_DEFLATED : 0;
+        System.arraycopy(body, 0, result, 2, body.length);
+        return result;
+    }
+    
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < 2 || bytes[0] != MAGIC) {
+            throw new SerializationException("Not a compact cache payload");
+        }
+        byte[] body = Arrays.copyOfRange(bytes, 2, bytes.length);
+        if ((bytes[1] & FLAG_DEFLATED) != 0) {
+            body = inflate(body);
+        }
+        try {
+            return new Reader(body).readValue();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new SerializationException("Cannot deserialize compact cache payload", e);
+        }
+    }
+    
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compact cache payload");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted compact cache payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    // ========== 스키마 ==========
+    
+    /**
+     * 클래스의 직렬화 대상 필드(상위 클래스 포함, static/transient 제외)와 지문
+     */
+    private static final class Schema {
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final long fingerprint;
+        
+        private Schema(Class<?> type) throws NoSuchMethodException {
+            List<Field> collected = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        field.setAccessible(true);
+                        collected.add(field);
+                    }
+                }
+            }
+            collected.sort(Comparator.comparing(Field::getName));
+            this.fields = collected.toArray(new Field[0]);
+            this.constructor = type.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+            
+            StringBuilder signature = new StringBuilder(type.getName());
+            for (Field field : fields) {
+                signature.append(';').append(field.getName()).append(':').append(field.getType().getName());
+            }
+            this.fingerprint = fnv1a(signature.toString());
+        }
+        
+        static Schema of(Class<?> type) {
+            return SCHEMAS.computeIfAbsent(type, t -> {
+                try {
+                    return new Schema(t);
+                } catch (NoSuchMethodException e) {
+                    throw new SerializationException(t.getName() + " has no no-arg constructor", e);
+                }
+            });
+        }
+        
+        private static long fnv1a(String text) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+    
+    // ========== 쓰기 ==========
+    
+    private final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        private final Map<String, Integer> strings = new HashMap<>();
+        
+        void writeValue(Object value) throws ReflectiveOperationException {
+            if (value == null) {
+                out.write(T_NULL);
+            } else if (value instanceof String s) {
+                out.write(T_STRING);
+                writeString(s);
+            } else if (value instanceof Long l) {
+                out.write(T_LONG);
+                writeVarLong(l);
+            } else if (value instanceof Integer i) {
+                out.write(T_INT);
+                writeVarLong(i);
+            } else if (value instanceof Boolean b) {
+                out.write(b ? T_BOOLEAN_TRUE : T_BOOLEAN_FALSE);
+            } else if (value instanceof Double d) {
+                out.write(T_DOUBLE);
+                writeFixedLong(Double.doubleToRawLongBits(d));
+            } else if (value instanceof Enum<?> e) {
+                out.write(T_ENUM);
+                writeSymbol(e.getDeclaringClass().getName());
+                writeSymbol(e.name());
+            } else if (value instanceof LocalDate date) {
+                out.write(T_LOCAL_DATE);
+                writeVarLong(date.toEpochDay());
+            } else if (value instanceof LocalDateTime dateTime) {
+                out.write(T_LOCAL_DATE_TIME);
+                writeVarLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                writeVarLong(dateTime.getNano());
+            } else if (value instanceof Collection<?> collection) {
+                out.write(T_LIST);
+                writeVarLong(collection.size());
+                for (Object element : collection) {
+                    writeValue(element);
+                }
+            } else {
+                writeObject(value);
+            }
+        }
+        
+        private void writeObject(Object value) throws ReflectiveOperationException {
+            // 등록하지 않은 타입이 섞여도 JDK 내부 필드를 반사로 쓰지 않도록 거부
+            if (!value.getClass().getName().startsWith(allowedPackage)) {
+                throw new SerializationException("Unsupported type in cache payload: " + value.getClass().getName());
+            }
+            Schema schema = Schema.of(value.getClass());
+            out.write(T_OBJECT);
+            boolean firstUse = !strings.containsKey(value.getClass().getName());
+            writeSymbol(value.getClass().getName());
+            if (firstUse) {
+                writeFixedLong(schema.fingerprint);
+            }
+            for (Field field : schema.fields) {
+                writeValue(field.get(value));
+            }
+        }
+        
+        /**
+         * 클래스명/열거형 이름은 처음 한 번만 문자열로 쓰고 이후에는 테이블 번호로 참조
+         */
+        private void writeSymbol(String symbol) {
+            Integer index = strings.get(symbol);
+            if (index != null) {
+                writeVarLong(index + 1L);
+                return;
+            }
+            strings.put(symbol, strings.size());
+            writeVarLong(0);
+            writeString(symbol);
+        }
+        
+        private void writeString(String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+        
+        private void writeVarLong(long value) {
+            long v = (value << 1) ^ (value >> 63); // zigzag
+            while ((v & ~0x7FL) != 0) {
+                out.write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            out.write((int) v);
+        }
+        
+        private void writeFixedLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (value >>> shift) & 0xFF);
+            }
+        }
+    }
+    
+    // ========== 읽기 ==========
+    
+    private final class Reader {
+        private final byte[] data;
+        private final List<String> strings = new ArrayList<>();
+        private int pos;
+        
+        Reader(byte[] data) {
+            this.data = data;
+        }
+        
+        Object readValue() throws ReflectiveOperationException {
+            int tag = data[pos++];
+            switch (tag) {
+                case T_NULL:
+                    return null;
+                case T_STRING:
+                    return readString();
+                case T_LONG:
+                    return readVarLong();
+                case T_INT:
+                    return (int) readVarLong();
+                case T_BOOLEAN_TRUE:
+                    return Boolean.TRUE;
+                case T_BOOLEAN_FALSE:
+                    return Boolean.FALSE;
+                case T_DOUBLE:
+                    return Double.longBitsToDouble(readFixedLong());
+                case T_ENUM:
+                    return readEnum();
+                case T_LOCAL_DATE:
+                    return LocalDate.ofEpochDay(readVarLong());
+                case T_LOCAL_DATE_TIME:
+                    long seconds = readVarLong();
+                    return LocalDateTime.ofEpochSecond(seconds, (int) readVarLong(), ZoneOffset.UTC);
+                case T_LIST:
+                    int size = (int) readVarLong();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                case T_OBJECT:
+                    return readObject();
+                default:
+                    throw new SerializationException("Unknown tag " + tag);
+            }
+        }
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readEnum() throws ClassNotFoundException {
+            Class<?> type = loadAllowed(readSymbol());
+            return Enum.valueOf((Class<? extends Enum>) type.asSubclass(Enum.class), readSymbol());
+        }
+        
+        private Object readObject() throws ReflectiveOperationException {
+            int before = strings.size();
+            String className = readSymbol();
+            Schema schema = Schema.of(loadAllowed(className));
+            if (strings.size() > before && readFixedLong() != schema.fingerprint) {
+                throw new SerializationException("Schema changed for " + className);
+            }
+            Object instance = schema.constructor.newInstance();
+            for (Field field : schema.fields) {
+                Object value = readValue();
+                if (value != null || !field.getType().isPrimitive()) {
+                    field.set(instance, value);
+                }
+            }
+            return instance;
+        }
+        
+        private Class<?> loadAllowed(String className) throws ClassNotFoundException {
+            if (!className.startsWith(allowedPackage)) {
+                throw new SerializationException("Class not allowed in cache payload: " + className);
+            }
+            return Class.forName(className, false, CompactRedisSerializer.class.getClassLoader());
+        }
+        
+        private String readSymbol() {
+            int index = (int) readVarLong();
+            if (index > 0) {
+                return strings.get(index - 1);
+            }
+            String symbol = readString();
+            strings.add(symbol);
+            return symbol;
+        }
+        
+        private String readString() {
+            int length = (int) readVarLong();
+            String s = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return s;
+        }
+        
+        private long readVarLong() {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (v >>> 1) ^ -(v & 1);
+        }
+        
+        private long readFixedLong() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | (data[pos++] & 0xFF);
+            }
+            return v;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.twothree.backend.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 적재 중 블로킹 I/O를 맵 잠금 밖에서 수행하는 캐시 적재 도우미
+ *
+ * ConcurrentHashMap.computeIfAbsent(Caffeine의 get(key, loader) 포함)는 적재 함수가 끝날 때까지 버킷을
+ * synchronized로 잡고 있어, 그 안에서 JDBC/Redis를 호출하면 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다.
+ * 여기서는 빈 Future만 먼저 넣고 적재는 호출 스레드에서 잠금 없이 수행하며, 같은 키를 기다리는 쪽은 Future로 대기합니다.
+ * 적재 중에 키가 제거(무효화)되면 적재 결과는 맵에 남지 않습니다.
+ */
+public final class FutureLoader {
+    
+    private FutureLoader() {
+    }
+    
+    /**
+     * 값이 있으면 반환하고 없으면 loader로 적재 (예외는 캐시하지 않고 그대로 전파, null 결과도 캐시하지 않음)
+     */
+    public static <K, V> V getOrLoad(ConcurrentMap<K, CompletableFuture<V>> map, K key, Function<K, V> loader) {
+        CompletableFuture<V> existing = map.get(key);
+        if (existing != null) {
+            return join(existing);
+        }
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        existing = map.putIfAbsent(key, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+        
+        try {
+            V value = loader.apply(key);
+            mine.complete(value);
+            if (value == null) {
+                map.remove(key, mine);
+            }
+            return value;
+        } catch (Throwable e) {
+            // Error도 Future를 완료하지 않으면 같은 키를 기다리는 호출이 영원히 대기함
+            map.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    /**
+     * 적재 결과 대기 (적재 측 예외/Error는 원래 것으로 다시 던짐)
+     */
+    public static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.twothree.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 무효화 채널 메시지를 이름별 {@link LocalInvalidationListener}로 전달
+ *
+ * 메시지는 한 번만 해석하고, 자기 인스턴스가 보낸 메시지와 등록되지 않은 이름은 무시합니다.
+ */
+@Slf4j
+public class LocalInvalidationDispatcher implements MessageListener {
+    
+    private final String instanceId;
+    private final Map<String, LocalInvalidationListener> listeners;
+    
+    public LocalInvalidationDispatcher(String instanceId, Collection<LocalInvalidationListener> listeners) {
+        this.instanceId = instanceId;
+        this.listeners = listeners.stream()
+                .collect(Collectors.toUnmodifiableMap(LocalInvalidationListener::getInvalidationName, Function.identity()));
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = CacheInvalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (parts == null || instanceId.equals(parts[0])) {
+            return;
+        }
+        LocalInvalidationListener listener = listeners.get(parts[1]);
+        if (listener == null) {
+            return;
+        }
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[2])) {
+            listener.clearLocal();
+        } else {
+            listener.evictLocal(parts[3]);
+        }
+        log.debug("원격 로컬 상태 무효화 수신 - name: {}, action: {}, key: {}", parts[1], parts[2], parts[3]);
+    }
+}
@@ -0,0 +1,19 @@
+package com.twothree.backend.cache;
+
+/**
+ * 인스턴스 로컬 상태의 원격 무효화 대상
+ *
+ * 빈으로 등록하면 {@link LocalInvalidationDispatcher}가 캐시 무효화 채널에서 이름이 같은 메시지를 넘겨줍니다.
+ * 무효화 발행은 {@link CacheInvalidationPublisher}로 같은 이름을 써서 보냅니다.
+ */
+public interface LocalInvalidationListener {
+    
+    /**
+     * 메시지의 캐시 이름 자리에 쓰는 이름 (2단 캐시 이름과 겹치지 않아야 함)
+     */
+    String getInvalidationName();
+    
+    void evictLocal(String key);
+    
+    void clearLocal();
+}
@@ -0,0 +1,79 @@
+package com.twothree.backend.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 캐시 스탬피드 방지 설정과 노드 간 적재 잠금, 적재 결과 카운터
+ *
+ * 카운터: cache.loads{cache, outcome}
+ * - loaded: 직접 적재 / coalesced: 같은 인스턴스의 진행 중 적재에 합류
+ * - remote_wait: 다른 노드의 적재 결과를 L2에서 받음 / early_refresh: 만료 전 확률적 갱신
+ */
+@Slf4j
+public class StampedeGuard {
+    
+    private static final String LOCK_PREFIX = "cache-lock:";
+    
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId;
+    
+    @Getter
+    private final boolean distributedLock;
+    private final Duration lockTtl;
+    @Getter
+    private final Duration lockWait;
+    @Getter
+    private final Duration pollInterval;
+    @Getter
+    private final double beta;
+    @Getter
+    private final long minDeltaMillis;
+    
+    public StampedeGuard(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, String instanceId,
+                         boolean distributedLock, Duration lockTtl, Duration lockWait, Duration pollInterval,
+                         double beta, Duration minDelta) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.distributedLock = distributedLock;
+        this.lockTtl = lockTtl;
+        this.lockWait = lockWait;
+        this.pollInterval = pollInterval;
+        this.beta = beta;
+        this.minDeltaMillis = minDelta.toMillis();
+    }
+    
+    /**
+     * 노드 간 적재 잠금 (SET NX PX). Redis 오류 시에는 잠금 없이 적재하도록 true 반환
+     */
+    public boolean tryLock(String cacheName, String key) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + cacheName + "::" + key, instanceId, lockTtl);
+            return !Boolean.FALSE.equals(acquired);
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 잠금 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+            return true;
+        }
+    }
+    
+    public void unlock(String cacheName, String key) {
+        try {
+            redisTemplate.delete(LOCK_PREFIX + cacheName + "::" + key);
+        } catch (RuntimeException e) {
+            // 잠금은 TTL로 자동 해제됨
+            log.warn("캐시 적재 잠금 해제 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+    
+    public void record(String cacheName, String outcome) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("cache.loads", "cache", cacheName, "outcome", outcome).increment();
+        }
+    }
+}
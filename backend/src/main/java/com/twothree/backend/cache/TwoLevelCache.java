@@ -0,0 +1,242 @@
+package com.twothree.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로컬 힙(L1) + Redis(L2) 2단 캐시
+ *
+ * 조회는 L1 → L2 순으로 하고 L2 적중 값은 L1에 올려 둡니다. 저장/삭제는 L2에 먼저 반영한 뒤
+ * 다른 인스턴스가 L1을 비우도록 무효화 메시지를 발행합니다. L1 키는 Redis 키와 같은 문자열 형태로 맞춥니다.
+ *
+ * {@code @Cacheable(sync = true)} 경로({@link #get(Object, Callable)})에서는 키별로 한 번만 적재하고
+ * (선택적으로 노드 간 Redis 잠금), 만료 직전에는 확률적으로 미리 갱신해 일괄 만료 시의 DB 몰림을 막습니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    private final Duration ttl;
+    private final StampedeGuard guard;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 조기 갱신 중인 키 (적재 대기 맵과 분리해 갱신 건너뜀/실패가 적재 결과로 전달되지 않도록 함)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         CacheInvalidationPublisher publisher,
+                         Duration ttl,
+                         StampedeGuard guard) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.ttl = ttl;
+        this.guard = guard;
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+    
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return local;
+    }
+    
+    @Override
+    protected Object lookup(Object key) {
+        CachedValue entry = lookupEntry(key);
+        return entry != null ? entry.getValue() : null;
+    }
+    
+    private CachedValue lookupEntry(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored == null) {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper == null || wrapper.get() == null) {
+                return null;
+            }
+            stored = wrapper.get();
+            local.put(localKey, stored);
+        }
+        return CachedValue.of(stored);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CachedValue entry = lookupEntry(key);
+        if (entry != null) {
+            if (entry.shouldRefreshEarly(guard.getBeta(), guard.getMinDeltaMillis())) {
+                Object refreshed = refreshEarly(key, valueLoader);
+                if (refreshed != null) {
+                    return (T) refreshed;
+                }
+            }
+            return (T) fromStoreValue(entry.getValue());
+        }
+        return (T) loadOnce(key, valueLoader);
+    }
+    
+    /**
+     * 같은 키의 동시 적재는 하나로 합치고 나머지 스레드는 그 결과를 기다림
+     */
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, mine);
+        if (existing != null) {
+            guard.record(name, "coalesced");
+            return FutureLoader.join(existing);
+        }
+        
+        try {
+            Object value = guard.isDistributedLock()
+                    ? loadWithLock(key, valueLoader)
+                    : loadAndStore(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error도 Future를 완료하지 않으면 합류한 호출이 영원히 대기함
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+    
+    /**
+     * 다른 노드가 적재 중이면 L2에 값이 올라올 때까지 잠시 기다리고, 시간 안에 오지 않으면 직접 적재
+     */
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        if (guard.tryLock(name, localKey)) {
+            try {
+                return loadAndStore(key, valueLoader);
+            } finally {
+                guard.unlock(name, localKey);
+            }
+        }
+        
+        long deadline = System.nanoTime() + guard.getLockWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(guard.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                local.put(localKey, wrapper.get());
+                guard.record(name, "remote_wait");
+                return CachedValue.of(wrapper.get()).getValue();
+            }
+        }
+        return loadAndStore(key, valueLoader);
+    }
+    
+    /**
+     * 다른 스레드/노드가 이미 갱신 중이면 건너뛰고 기존 값을 그대로 씀 (실패해도 기존 값 제공)
+     */
+    private Object refreshEarly(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        if (!refreshing.add(localKey)) {
+            return null;
+        }
+        boolean locked = false;
+        try {
+            locked = !guard.isDistributedLock() || guard.tryLock(name, localKey);
+            if (!locked) {
+                return null;
+            }
+            Object value = loadAndStore(key, valueLoader);
+            guard.record(name, "early_refresh");
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("캐시 조기 갱신 실패 - cache: {}, key: {}, error: {}", name, localKey, e.getMessage());
+            return null;
+        } finally {
+            if (locked && guard.isDistributedLock()) {
+                guard.unlock(name, localKey);
+            }
+            refreshing.remove(localKey);
+        }
+    }
+    
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        guard.record(name, "loaded");
+        if (value != null) {
+            store(key, new CachedValue(value, now - start, now + ttl.toMillis()));
+        }
+        return value;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        store(key, new CachedValue(toStoreValue(value), 0L, System.currentTimeMillis() + ttl.toMillis()));
+    }
+    
+    private void store(Object key, CachedValue entry) {
+        remote.put(key, entry);
+        local.put(localKey(key), entry);
+        publisher.publishEvict(name, localKey(key));
+    }
+    
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+    
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publishClear(name);
+    }
+    
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 시 L1만 비움
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+    
+    void clearLocal() {
+        local.invalidateAll();
+    }
+    
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,108 @@
+package com.twothree.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link TwoLevelCache}를 만들어 주는 캐시 매니저
+ *
+ * L2 설정(TTL, 직렬화)은 감싸고 있는 Redis 캐시 매니저를 그대로 따르고, L1은 캐시별로 크기/TTL 제한을 둔
+ * Caffeine 캐시를 씁니다. 다른 인스턴스가 발행한 무효화 메시지를 받아 해당 L1 항목을 비웁니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final StampedeGuard stampedeGuard;
+    private final Map<String, Duration> remoteTtls;
+    private final Duration defaultRemoteTtl;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    
+    /**
+     * @param remoteTtls L2 캐시별 TTL (조기 갱신 시점 계산용, Redis 캐시 설정과 같아야 함)
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationPublisher publisher,
+                                StampedeGuard stampedeGuard,
+                                Map<String, Duration> remoteTtls,
+                                Duration defaultRemoteTtl,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.publisher = publisher;
+        this.stampedeGuard = stampedeGuard;
+        this.remoteTtls = remoteTtls;
+        this.defaultRemoteTtl = defaultRemoteTtl;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remote));
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+    
+    private TwoLevelCache createCache(String name, Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "l1");
+        }
+        return new TwoLevelCache(name, local, remote, publisher,
+                remoteTtls.getOrDefault(name, defaultRemoteTtl), stampedeGuard);
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = CacheInvalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (parts == null || publisher.getInstanceId().equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+        log.debug("원격 캐시 무효화 수신 - cache: {}, action: {}, key: {}", parts[1], parts[2], parts[3]);
+    }
+}
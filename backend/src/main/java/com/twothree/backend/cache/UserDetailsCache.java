@@ -0,0 +1,75 @@
+package com.twothree.backend.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 인증 주체(UserDetails) 니어 캐시 (사용자명 → UserDetails)
+ *
+ * 비밀번호 해시가 들어 있어 Redis에는 값을 두지 않고 인스턴스 로컬(Caffeine)에만 보관합니다.
+ * 무효화는 2단 캐시와 같은 Redis 채널로 전파하며, 메시지가 유실되면 expire-after-write 안에 만료됩니다.
+ * 적재는 {@link FutureLoader}로 캐시 잠금 밖에서 하므로 가상 스레드가 고정되지 않고,
+ * 적재 중에 들어온 무효화는 적재 결과가 캐시에 남지 않게 합니다.
+ */
+public class UserDetailsCache implements LocalInvalidationListener {
+    
+    public static final String NAME = "userDetails";
+    
+    private final AsyncCache<String, UserDetails> local;
+    private final CacheInvalidationPublisher publisher;
+    
+    public UserDetailsCache(CacheInvalidationPublisher publisher, MeterRegistry meterRegistry,
+                            long maximumSize, Duration ttl) {
+        this.publisher = publisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, local, NAME, "tier", "l1");
+        }
+    }
+    
+    /**
+     * 캐시된 값이 없으면 loader로 적재 (loader 예외는 그대로 전파되고 캐시하지 않음)
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        // getIfPresent로 적중/실패 통계를 남김
+        CompletableFuture<UserDetails> cached = local.getIfPresent(username);
+        if (cached != null) {
+            return FutureLoader.join(cached);
+        }
+        return FutureLoader.getOrLoad(local.asMap(), username, loader);
+    }
+    
+    /**
+     * 로컬 항목 제거 후 다른 인스턴스에도 무효화 메시지 발행
+     */
+    public void evict(String username) {
+        local.synchronous().invalidate(username);
+        publisher.publishEvict(NAME, username);
+    }
+    
+    @Override
+    public String getInvalidationName() {
+        return NAME;
+    }
+    
+    @Override
+    public void evictLocal(String username) {
+        local.synchronous().invalidate(username);
+    }
+    
+    @Override
+    public void clearLocal() {
+        local.synchronous().invalidateAll();
+    }
+}
@@ -1,22 +1,70 @@
 package com.twothree.backend.config;
 
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.cache.CompactRedisSerializer;
+import com.twothree.backend.cache.LocalInvalidationDispatcher;
+import com.twothree.backend.cache.LocalInvalidationListener;
+import com.twothree.backend.cache.StampedeGuard;
+import com.twothree.backend.cache.TwoLevelCacheManager;
+import com.twothree.backend.cache.UserDetailsCache;
+import com.twothree.backend.dto.ChurchDto;
+import com.twothree.backend.dto.DepartmentDto;
+import com.twothree.backend.dto.MemberDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+@Slf4j
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String CHURCHES = "churches";
+    public static final String MEMBERS = "members";
+    public static final String DEPARTMENTS = "departments";
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30); // 기본 TTL 30분
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            CHURCHES, Duration.ofMinutes(60),     // 교회 정보 1시간 캐시
+            MEMBERS, Duration.ofMinutes(30),      // 멤버 정보 30분 캐시
+            DEPARTMENTS, Duration.ofMinutes(45)); // 부서 정보 45분 캐시
+
+    // compact 직렬화기에 등록할 캐시별 값 타입 (목록 캐시도 같은 DTO의 List)
+    private static final Map<String, Class<?>> CACHE_VALUE_TYPES = Map.of(
+            CHURCHES, ChurchDto.class,
+            MEMBERS, MemberDto.class,
+            DEPARTMENTS, DepartmentDto.class);
+
+    private static final String SERIALIZER_JSON = "json";
+    private static final String SERIALIZER_COMPACT = "compact";
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -28,29 +76,167 @@ public class CacheConfig {
         template.setHashKeySerializer(new StringRedisSerializer());
         
         // Value serializer
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(jsonRedisSerializer());
+        template.setHashValueSerializer(jsonRedisSerializer());
         
         template.afterPropertiesSet();
         return template;
     }
 
+    /**
+     * 로컬 힙(L1, Caffeine) + Redis(L2) 2단 캐시 매니저
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            CacheInvalidationPublisher publisher,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment,
+            @Value("${application.cache.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${application.cache.local.expire-after-write:5m}") Duration localTtl) {
+        return new TwoLevelCacheManager(
+                redisCacheManager(connectionFactory, environment),
+                publisher,
+                stampedeGuard(stringRedisTemplate, meterRegistry.getIfAvailable(), publisher.getInstanceId(), environment),
+                CACHE_TTLS,
+                DEFAULT_TTL,
+                meterRegistry.getIfAvailable(),
+                localMaximumSize,
+                localTtl);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    /**
+     * 인증 주체 니어 캐시 (로컬 전용, 무효화만 Redis로 전파)
+     */
+    @Bean
+    public UserDetailsCache userDetailsCache(
+            CacheInvalidationPublisher publisher,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${application.cache.user-details.maximum-size:10000}") long maximumSize,
+            @Value("${application.cache.user-details.expire-after-write:10m}") Duration ttl) {
+        return new UserDetailsCache(publisher, meterRegistry.getIfAvailable(), maximumSize, ttl);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 구독 (2단 캐시 L1 + LocalInvalidationListener 빈 전체)
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher publisher, ObjectProvider<LocalInvalidationListener> localListeners) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        ChannelTopic topic = new ChannelTopic(CacheInvalidationPublisher.CHANNEL);
+        container.addMessageListener(cacheManager, topic);
+        container.addMessageListener(
+                new LocalInvalidationDispatcher(publisher.getInstanceId(), localListeners.orderedStream().toList()),
+                topic);
+        return container;
+    }
+
+    /**
+     * 단일 적재(노드 간 잠금 선택) + 확률적 조기 갱신 설정
+     */
+    private StampedeGuard stampedeGuard(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                                        String instanceId, Environment environment) {
+        return new StampedeGuard(
+                stringRedisTemplate,
+                meterRegistry,
+                instanceId,
+                environment.getProperty("application.cache.stampede.distributed-lock", Boolean.class, false),
+                environment.getProperty("application.cache.stampede.lock-ttl", Duration.class, Duration.ofSeconds(10)),
+                environment.getProperty("application.cache.stampede.lock-wait", Duration.class, Duration.ofSeconds(2)),
+                environment.getProperty("application.cache.stampede.poll-interval", Duration.class, Duration.ofMillis(50)),
+                environment.getProperty("application.cache.stampede.early-refresh-beta", Double.class, 1.0),
+                environment.getProperty("application.cache.stampede.min-load-time", Duration.class, Duration.ofSeconds(1)));
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, Environment environment) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30)) // 기본 TTL 30분
+                .entryTtl(DEFAULT_TTL)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonRedisSerializer()))
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
-                .withCacheConfiguration("churches", 
-                    config.entryTtl(Duration.ofMinutes(60))) // 교회 정보 1시간 캐시
-                .withCacheConfiguration("members", 
-                    config.entryTtl(Duration.ofMinutes(30))) // 멤버 정보 30분 캐시
-                .withCacheConfiguration("departments", 
-                    config.entryTtl(Duration.ofMinutes(45))) // 부서 정보 45분 캐시
+                .withInitialCacheConfigurations(CACHE_TTLS.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey,
+                                e -> withSerializer(config, e.getKey(), environment).entryTtl(e.getValue()))))
                 .build();
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * application.cache.serializer.{캐시명} = json | compact 로 캐시별 값 직렬화 방식 선택
+     */
+    private RedisCacheConfiguration withSerializer(RedisCacheConfiguration config, String cacheName, Environment environment) {
+        String serializer = environment.getProperty("application.cache.serializer." + cacheName, SERIALIZER_JSON);
+        if (!SERIALIZER_COMPACT.equalsIgnoreCase(serializer)) {
+            return config;
+        }
+        Class<?> valueType = CACHE_VALUE_TYPES.get(cacheName);
+        if (valueType == null) {
+            throw new IllegalStateException("No value type registered for compact cache: " + cacheName);
+        }
+        int threshold = environment.getProperty("application.cache.compact.compression-threshold", Integer.class, 1024);
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new CompactRedisSerializer("com.twothree.backend.", threshold, valueType)));
+    }
+
+    /**
+     * Redis 장애 시 캐시 오류로 요청이 실패하지 않도록 로그만 남기고 DB 조회로 진행
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("캐시 조회 실패 - cache: {}, key: {}, error: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("캐시 저장 실패 - cache: {}, key: {}, error: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("캐시 무효화 실패 - cache: {}, key: {}, error: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.warn("캐시 비우기 실패 - cache: {}, error: {}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+
+    /**
+     * DTO의 LocalDateTime과 List 값을 타입 정보와 함께 직렬화하는 JSON 직렬화기
+     */
+    public static GenericJackson2JsonRedisSerializer jsonRedisSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.twothree.backend.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .allowIfSubType("java.lang.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
-} 
\ No newline at end of file
+}
@@ -1,16 +1,23 @@
 package com.twothree.backend.config;
 
 import com.twothree.backend.service.JwtService;
+import com.twothree.backend.service.TokenVersionStore;
+import com.twothree.backend.service.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,10 +26,17 @@ import java.io.IOException;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionStore tokenVersionStore;
+    private final PublicRoutes publicRoutes;
+    
+    @Value("${application.security.jwt.stateless:false}")
+    private boolean stateless;
     
     @Override
     protected void doFilterInternal(
@@ -30,24 +44,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        if (request.getServletPath().contains("/api/auth") || request.getServletPath().contains("/api/test") || 
-            request.getServletPath().contains("/api/churches") || request.getServletPath().contains("/api/departments") || 
-            request.getServletPath().contains("/api/members")) {
+        if (publicRoutes.matches(request)) {
             filterChain.doFilter(request, response);
             return;
         }
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(jwt);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -61,4 +71,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 토큰의 인증 주체 (유효하지 않거나 폐기된 토큰이거나 사용자가 없으면 null)
+     *
+     * 검증된 토큰은 exp까지 캐시해 서명 검증을 한 번만 합니다.
+     * stateless 모드에서는 토큰 버전이 현재 버전과 같을 때만(로그아웃/권한 변경 전) 클레임으로 인증 주체를 만들고,
+     * 버전(ver) 클레임이 없거나 현재 버전을 확인할 수 없으면(Redis 장애) 폐기 여부를 알 수 없으므로 거부합니다.
+     * 그 외에는 버전을 보지 않고 UserDetailsService의 니어 캐시(DB 기준)에서 가져옵니다.
+     */
+    private UserDetails resolvePrincipal(String jwt) {
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(jwt);
+        if (verified == null) {
+            try {
+                Claims claims = jwtService.extractAllClaims(jwt);
+                if (claims.getSubject() == null || claims.getExpiration() == null) {
+                    return null;
+                }
+                verified = VerifiedTokenCache.VerifiedToken.from(claims);
+                verifiedTokenCache.put(jwt, verified);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("JWT 검증 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+        if (stateless) {
+            if (!isCurrentVersion(verified)) {
+                return null;
+            }
+            if (verified.isSelfContained()) {
+                return verified.toPrincipal();
+            }
+        }
+        try {
+            return userDetailsService.loadUserByUsername(verified.getUsername());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+    
+    private boolean isCurrentVersion(VerifiedTokenCache.VerifiedToken verified) {
+        if (verified.getVersion() == null) {
+            log.debug("버전 없는 JWT 거부 - username: {}", verified.getUsername());
+            return false;
+        }
+        Long currentVersion = tokenVersionStore.currentVersion(verified.getUsername());
+        if (currentVersion == null) {
+            log.warn("토큰 버전 확인 불가로 JWT 거부 - username: {}", verified.getUsername());
+            return false;
+        }
+        if (!currentVersion.equals(verified.getVersion())) {
+            log.debug("폐기된 JWT - username: {}, version: {}, current: {}",
+                    verified.getUsername(), verified.getVersion(), currentVersion);
+            return false;
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.twothree.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록
+ *
+ * SecurityConfig의 permitAll과 JwtAuthenticationFilter의 건너뛰기 판단이 같은 목록을 씁니다.
+ * 패턴은 시작 시 한 번 PathPattern으로 컴파일하고, 요청 경로는 세그먼트 단위로 비교하므로
+ * /api/membersX, /foo/api/churches 같은 경로는 일치하지 않습니다.
+ */
+@Component
+public class PublicRoutes implements RequestMatcher {
+    
+    public static final List<String> PATTERNS = List.of(
+            "/api/auth/**",
+            "/api/test/**",
+            "/api/churches/**",
+            "/api/departments/**",
+            "/api/members/**",
+            "/swagger-ui/**",
+            "/v3/api-docs/**"
+    );
+    
+    private final List<PathPattern> patterns;
+    
+    public PublicRoutes() {
+        this(PATTERNS);
+    }
+    
+    PublicRoutes(List<String> patterns) {
+        PathPatternParser parser = new PathPatternParser();
+        this.patterns = patterns.stream().map(parser::parse).toList();
+    }
+    
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return matches(path);
+    }
+    
+    public boolean matches(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
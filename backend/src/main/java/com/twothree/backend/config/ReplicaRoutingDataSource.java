@@ -0,0 +1,214 @@
+package com.twothree.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ *
+ * - 읽기 전용 트랜잭션: 정상 상태인 복제본 중 라운드 로빈, 정상 복제본이 없으면 주 DB
+ * - 쓰기 트랜잭션 / 트랜잭션 밖: 주 DB
+ * - 같은 요청에서 쓰기 트랜잭션이 있었으면 이후 읽기도 주 DB (read-your-writes)
+ * - {@link #onPrimary(Supplier)} 안에서 커넥션을 얻은 읽기: 주 DB (캐시에 오래 남을 값 적재)
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 쓸 때 정해지므로 LazyConnectionDataSourceProxy로 감싸서 써야 합니다.
+ * 복제본 상태는 {@link #checkHealth()}로 주기적으로 확인하며, 조회 실패, WAL 수신 중단, 지연(max-lag 초과) 시 제외합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    
+    static final String PRIMARY = "primary";
+    private static final String WROTE_IN_REQUEST = ReplicaRoutingDataSource.class.getName() + ".WROTE";
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+    
+    // 복제본이면 마지막 재생 이후 경과 시간(초), 수신한 WAL을 모두 재생했거나 주 DB면 0
+    // WAL 수신이 끊긴 복제본은 수신/재생 위치가 같아 0으로 보이므로 NULL(비정상)로 구분
+    // (pg_stat_wal_receiver.status 조회에 pg_read_all_stats 또는 pg_monitor 권한 필요)
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+    
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.maxLag = maxLag;
+        this.replicas = new ArrayList<>();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.getKey(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        
+        if (meterRegistry != null) {
+            primaryRoutes = Counter.builder("datasource.routing").tag("target", "primary").register(meterRegistry);
+            replicaRoutes = Counter.builder("datasource.routing").tag("target", "replica").register(meterRegistry);
+            Gauge.builder("datasource.replicas.healthy", replicas, list -> list.stream().filter(Replica::isHealthy).count())
+                    .register(meterRegistry);
+        } else {
+            primaryRoutes = null;
+            replicaRoutes = null;
+        }
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWrite();
+            }
+            return route(PRIMARY);
+        }
+        if (wroteInCurrentRequest() || PRIMARY_READ.get() != null) {
+            return route(PRIMARY);
+        }
+        Replica replica = nextHealthyReplica();
+        return route(replica != null ? replica.getKey() : PRIMARY);
+    }
+    
+    /**
+     * 주 DB에서 읽기 (readOnly 트랜잭션이어도 복제본으로 보내지 않음)
+     *
+     * 캐시에 적재할 값은 TTL 동안 남으므로 지연된 복제본에서 읽으면 방금 커밋된 변경이 그만큼 늦게 보입니다.
+     * 쓰기 트랜잭션과 달리 같은 요청의 이후 읽기를 주 DB로 고정하지 않습니다.
+     * 커넥션은 첫 쿼리 때 정해지므로, 이 안에서 시작한 트랜잭션(또는 커넥션을 아직 쓰지 않은 트랜잭션)에만 적용됩니다.
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        if (PRIMARY_READ.get() != null) {
+            return reader.get();
+        }
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_READ.remove();
+        }
+    }
+    
+    /**
+     * 복제본별 조회 가능 여부와 복제 지연 확인 (빈으로 등록되면 health-check-interval마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.replica.health-check-interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+                try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                    rs.next();
+                    double lagSeconds = rs.getDouble(1);
+                    if (rs.wasNull()) {
+                        healthy = false;
+                        log.warn("복제본 WAL 수신 중단으로 제외 - replica: {}", replica.getKey());
+                    } else {
+                        healthy = lagSeconds * 1000 <= maxLag.toMillis();
+                        if (!healthy) {
+                            log.warn("복제본 지연으로 제외 - replica: {}, lag: {}s", replica.getKey(), lagSeconds);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                healthy = false;
+                log.warn("복제본 상태 확인 실패로 제외 - replica: {}, error: {}", replica.getKey(), e.getMessage());
+            }
+            if (healthy && !replica.isHealthy()) {
+                log.info("복제본 복귀 - replica: {}", replica.getKey());
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+    
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+    
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+    
+    private Object route(String key) {
+        Counter counter = PRIMARY.equals(key) ? primaryRoutes : replicaRoutes;
+        if (counter != null) {
+            counter.increment();
+        }
+        return key;
+    }
+    
+    private static void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_IN_REQUEST, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+    
+    private static boolean wroteInCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(WROTE_IN_REQUEST, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+    
+    @Getter
+    private static class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        // 첫 상태 확인 전까지는 주 DB로 보냄
+        private volatile boolean healthy;
+        
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+        
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+    }
+}
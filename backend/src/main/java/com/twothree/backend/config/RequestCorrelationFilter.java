@@ -0,0 +1,60 @@
+package com.twothree.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 상관 ID와 추적 샘플링 여부를 MDC에 기록
+ *
+ * X-Request-Id 헤더가 있으면 그대로 쓰고(64자 이내), 없으면 새로 만들어 응답 헤더로 돌려줍니다.
+ * 샘플링은 요청 단위로 한 번만 정해서, 선택된 요청은 컨트롤러부터 도메인까지 호출 흐름이 모두 남습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+    
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String TRACE_SAMPLED = "traceSampled";
+    
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    
+    @Value("${application.logging.trace.sample-rate:0.01}")
+    private double sampleRate;
+    
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = UUID.randomUUID().toString();
+        }
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(TRACE_SAMPLED, Boolean.toString(sampled));
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(TRACE_SAMPLED);
+        }
+    }
+}
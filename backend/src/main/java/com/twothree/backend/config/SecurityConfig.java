@@ -25,20 +25,13 @@ import com.twothree.backend.service.UserService;
 public class SecurityConfig {
     
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthFilter, UserService userService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthFilter, UserService userService,
+                                                   PublicRoutes publicRoutes) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api/auth/**",
-                                "/api/test/**",
-                                "/api/churches/**",
-                                "/api/departments/**",
-                                "/api/members/**",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**"
-                        ).permitAll()
+                        .requestMatchers(publicRoutes).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
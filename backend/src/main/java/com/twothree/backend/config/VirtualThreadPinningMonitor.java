@@ -0,0 +1,81 @@
+package com.twothree.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 (spring.threads.virtual.enabled=true일 때만)
+ *
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드를 붙잡은 경우를 JFR 이벤트로 받아
+ * 메트릭(jvm.threads.virtual.pinned)과 호출 위치 로그로 남깁니다. threshold보다 짧은 고정은 무시합니다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    
+    private final Counter pinnedCounter;
+    
+    @Value("${application.threads.pinning-threshold:20ms}")
+    private Duration threshold;
+    
+    private RecordingStream stream;
+    
+    public VirtualThreadPinningMonitor(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.pinnedCounter = registry != null ? Counter.builder("jvm.threads.virtual.pinned").register(registry) : null;
+    }
+    
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 - threshold: {}", threshold);
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        if (pinnedCounter != null) {
+            pinnedCounter.increment();
+        }
+        log.warn("가상 스레드 고정 - duration: {}ms, stack: {}", event.getDuration().toMillis(), topFrames(event));
+    }
+    
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "-";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -28,6 +28,14 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/signout")
+    public ResponseEntity<Void> signOut(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            authService.signOut(authorization.substring(7));
+        }
+        return ResponseEntity.noContent().build();
+    }
+    
     @PostMapping("/me")
     public ResponseEntity<UserDto.UserInfo> getCurrentUser(@RequestBody UserInfoRequest request) {
         UserDto.UserInfo userInfo = userService.getUserInfo(request.getUsername());
@@ -1,5 +1,6 @@
 package com.twothree.backend.controller;
 
+import com.twothree.backend.dto.ChurchDashboardDto;
 import com.twothree.backend.dto.ChurchDto;
 import com.twothree.backend.dto.ChurchEmailRequest;
 import com.twothree.backend.dto.ChurchIdRequest;
@@ -8,6 +9,7 @@ import com.twothree.backend.dto.ChurchNameRequest;
 import com.twothree.backend.dto.ChurchSearchRequest;
 import com.twothree.backend.dto.ChurchStatusRequest;
 import com.twothree.backend.dto.ChurchUpdateRequest;
+import com.twothree.backend.service.ChurchDashboardService;
 import com.twothree.backend.service.ChurchExcelService;
 import com.twothree.backend.service.ChurchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,11 +19,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -32,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/churches")
@@ -42,6 +42,7 @@ public class ChurchController {
 
     private final ChurchService churchService;
     private final ChurchExcelService churchExcelService;
+    private final ChurchDashboardService churchDashboardService;
 
     @PostMapping("/list")
     @Operation(
@@ -68,33 +69,13 @@ public class ChurchController {
     }
 
     @GetMapping("/excel")
-    public ResponseEntity<ByteArrayResource> downloadChurchExcel() throws IOException {
-        List<ChurchDto> churches = churchService.getAllChurches();
-        ByteArrayOutputStream excelStream = churchExcelService.generateChurchExcel(
-            churches.stream()
-                .map(churchDto -> {
-                    return com.twothree.backend.entity.Church.builder()
-                        .id(churchDto.getId())
-                        .name(churchDto.getName())
-                        .address(churchDto.getAddress())
-                        .phone(churchDto.getPhone())
-                        .email(churchDto.getEmail())
-                        .website(churchDto.getWebsite())
-                        .pastorName(churchDto.getPastorName())
-                        .pastorPhone(churchDto.getPastorPhone())
-                        .pastorEmail(churchDto.getPastorEmail())
-                        .status(churchDto.getStatus())
-                        .build();
-                })
-                .collect(java.util.stream.Collectors.toList())
-        );
-
-        ByteArrayResource resource = new ByteArrayResource(excelStream.toByteArray());
+    public ResponseEntity<StreamingResponseBody> downloadChurchExcel() {
+        StreamingResponseBody body = churchExcelService::writeChurchExcel;
 
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=churches.xlsx")
             .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-            .body(resource);
+            .body(body);
     }
 
     @PostMapping("/get")
@@ -123,6 +104,16 @@ public class ChurchController {
         return ResponseEntity.ok(churches);
     }
 
+    @PostMapping("/dashboard")
+    @Operation(
+        summary = "교회 대시보드 집계",
+        description = "멤버 상태/역할/성별, 부서별 멤버 수, 카테고리별 부서 수를 한 번에 조회합니다."
+    )
+    public ResponseEntity<ChurchDashboardDto> getDashboard(@RequestBody ChurchIdRequest request) {
+        ChurchDashboardDto dashboard = churchDashboardService.getDashboard(request.getChurchId());
+        return ResponseEntity.ok(dashboard);
+    }
+
     @PostMapping("/create")
     public ResponseEntity<ChurchDto> createChurch(@RequestBody ChurchDto churchDto) {
         if (churchService.existsByName(churchDto.getName())) {
@@ -1,6 +1,8 @@
 package com.twothree.backend.controller;
 
 import com.twothree.backend.dto.ContentDto;
+import com.twothree.backend.dto.ContentFeedRequest;
+import com.twothree.backend.dto.CursorPage;
 import com.twothree.backend.dto.ContentSearchRequest;
 import com.twothree.backend.dto.ContentIdRequest;
 import com.twothree.backend.dto.ContentUpdateRequest;
@@ -60,5 +62,27 @@ public class ContentController {
         return ResponseEntity.ok(service.searchContents(req));
     }
 
+    // ========== 키셋(커서) 페이지네이션 ==========
+
+    @PostMapping("/feed-by-member")
+    public ResponseEntity<CursorPage<ContentDto>> getFeedForMember(@RequestBody ContentFeedRequest request) {
+        return ResponseEntity.ok(service.getFeedForMember(request.getMemberId(), request.getCursor(), request.getSize()));
+    }
+
+    @PostMapping("/feed-by-my-departments")
+    public ResponseEntity<CursorPage<ContentDto>> getFeedForMyDepartments(@RequestBody ContentFeedRequest request) {
+        return ResponseEntity.ok(service.getFeedForMyDepartments(request.getMemberId(), request.getCursor(), request.getSize()));
+    }
+
+    @PostMapping("/feed-by-children-departments")
+    public ResponseEntity<CursorPage<ContentDto>> getFeedForChildrenDepartments(@RequestBody ContentFeedRequest request) {
+        return ResponseEntity.ok(service.getFeedForChildrenDepartments(request.getMemberId(), request.getCursor(), request.getSize()));
+    }
+
+    @PostMapping("/search-cursor")
+    public ResponseEntity<CursorPage<ContentDto>> searchContentsByCursor(@RequestBody ContentSearchRequest req) {
+        return ResponseEntity.ok(service.searchContentsByCursor(req));
+    }
+
     // ... 기존 코드 ...
 } 
\ No newline at end of file
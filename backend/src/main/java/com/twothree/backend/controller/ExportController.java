@@ -0,0 +1,53 @@
+package com.twothree.backend.controller;
+
+import com.twothree.backend.dto.ExportRequest;
+import com.twothree.backend.export.ExportFormat;
+import com.twothree.backend.export.ExportService;
+import com.twothree.backend.export.ExportTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    
+    private final ExportService exportService;
+    
+    @PostMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestBody ExportRequest request) {
+        return export(ExportTarget.MEMBERS, request);
+    }
+    
+    @PostMapping("/departments")
+    public ResponseEntity<StreamingResponseBody> exportDepartments(@RequestBody ExportRequest request) {
+        return export(ExportTarget.DEPARTMENTS, request);
+    }
+    
+    @PostMapping("/contents")
+    public ResponseEntity<StreamingResponseBody> exportContents(@RequestBody ExportRequest request) {
+        return export(ExportTarget.CONTENTS, request);
+    }
+    
+    private ResponseEntity<StreamingResponseBody> export(ExportTarget target, ExportRequest request) {
+        if (request.getChurchId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        ExportFormat format = request.getFormat() != null ? request.getFormat() : ExportFormat.XLSX;
+        StreamingResponseBody body = outputStream ->
+                exportService.export(target, request.getChurchId(), format, outputStream);
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment;filename=" + target.getFileName() + "-" + request.getChurchId() + "." + format.getExtension())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+}
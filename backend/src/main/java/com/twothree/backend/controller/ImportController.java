@@ -0,0 +1,54 @@
+package com.twothree.backend.controller;
+
+import com.twothree.backend.batch.ImportTarget;
+import com.twothree.backend.dto.ImportJobDto;
+import com.twothree.backend.dto.ImportJobIdRequest;
+import com.twothree.backend.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * CSV/XLSX 대량 가져오기 (작업은 비동기로 실행되며 status로 진행 상황 조회)
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+public class ImportController {
+    
+    private final ImportService importService;
+    
+    @PostMapping(value = "/churches", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> importChurches(@RequestPart("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(importService.startImport(ImportTarget.CHURCHES, file, null));
+    }
+    
+    @PostMapping(value = "/departments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> importDepartments(@RequestPart("file") MultipartFile file,
+                                                          @RequestParam("churchId") Long churchId) {
+        return ResponseEntity.accepted().body(importService.startImport(ImportTarget.DEPARTMENTS, file, churchId));
+    }
+    
+    @PostMapping(value = "/members", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> importMembers(@RequestPart("file") MultipartFile file,
+                                                      @RequestParam("churchId") Long churchId) {
+        return ResponseEntity.accepted().body(importService.startImport(ImportTarget.MEMBERS, file, churchId));
+    }
+    
+    @PostMapping("/status")
+    public ResponseEntity<ImportJobDto> getImportStatus(@RequestBody ImportJobIdRequest request) {
+        return ResponseEntity.ok(importService.getImportStatus(request.getJobExecutionId()));
+    }
+    
+    @PostMapping("/restart")
+    public ResponseEntity<ImportJobDto> restartImport(@RequestBody ImportJobIdRequest request) {
+        return ResponseEntity.accepted().body(importService.restartImport(request.getJobExecutionId()));
+    }
+}
@@ -29,6 +29,8 @@ import com.twothree.backend.dto.ChurchIdKeywordRequest;
 import com.twothree.backend.dto.ChurchIdDateRangeRequest;
 import com.twothree.backend.dto.MemberUpdateRequest;
 import com.twothree.backend.dto.MemberEmailChurchIdRequest;
+import com.twothree.backend.dto.MemberTypeaheadRequest;
+import com.twothree.backend.dto.MemberBatchCreateRequest;
 
 @RestController
 @RequestMapping("/api/members")
@@ -100,6 +102,12 @@ public class MemberController {
         return ResponseEntity.ok(members);
     }
     
+    @PostMapping("/typeahead")
+    public ResponseEntity<List<MemberDto>> typeaheadMembers(@RequestBody MemberTypeaheadRequest request) {
+        List<MemberDto> members = memberService.typeaheadMembers(request.getChurchId(), request.getKeyword(), request.getLimit());
+        return ResponseEntity.ok(members);
+    }
+    
     @PostMapping("/birth-date-range")
     public ResponseEntity<List<MemberDto>> getMembersByBirthDateRange(@RequestBody ChurchIdDateRangeRequest request) {
         List<MemberDto> members = memberService.getMembersByBirthDateRange(request.getChurchId(), request.getStartDate(), request.getEndDate());
@@ -122,6 +130,16 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdMember);
     }
     
+    @PostMapping("/create-batch")
+    public ResponseEntity<List<MemberDto>> createMembers(@RequestBody MemberBatchCreateRequest request) {
+        if (request.getChurchId() == null || request.getMembers() == null || request.getMembers().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<MemberDto> createdMembers = memberService.createMembers(request.getChurchId(), request.getMembers());
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdMembers);
+    }
+    
     @PostMapping("/update")
     public ResponseEntity<MemberDto> updateMember(@RequestBody MemberUpdateRequest request) {
         return memberService.updateMember(request.getMemberId(), request.getMemberDto())
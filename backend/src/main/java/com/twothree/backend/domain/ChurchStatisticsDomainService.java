@@ -0,0 +1,208 @@
+package com.twothree.backend.domain;
+
+import com.twothree.backend.entity.ChurchStatistic;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.DepartmentCategory;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.enums.StatisticMetric;
+import com.twothree.backend.repository.ChurchStatisticRepository;
+import com.twothree.backend.repository.ContentRepository;
+import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.repository.GroupCountRow;
+import com.twothree.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 교회 통계 롤업 (멤버 상태/역할/성별, 부서별 멤버, 카테고리별 부서, 월별 콘텐츠)
+ *
+ * 멤버/부서/콘텐츠 쓰기와 같은 트랜잭션에서 카운터를 증감하므로 롤백되면 카운터도 함께 롤백됩니다.
+ * JDBC 대량 INSERT(가져오기)나 일괄 삭제처럼 이 경로를 거치지 않는 변경은 reconcile로 원본에서 다시 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ChurchStatisticsDomainService {
+
+    private final ChurchStatisticRepository statisticRepository;
+    private final MemberRepository memberRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ContentRepository contentRepository;
+
+    /**
+     * 카운터에 반영되는 멤버 필드 (수정 전 값을 보관해 변경분만 반영)
+     */
+    public record MemberSnapshot(Long churchId, MemberStatus status, MemberRole role, Gender gender, Long departmentId) {
+
+        public static MemberSnapshot of(Member member) {
+            // 부서는 지연 로딩 프록시라 ID만 꺼내면 추가 조회 없음
+            return new MemberSnapshot(member.getChurch().getId(), member.getStatus(), member.getRole(),
+                    member.getGender(), member.getDepartment() != null ? member.getDepartment().getId() : null);
+        }
+    }
+
+    // ========== 쓰기 경로 증감 ==========
+
+    public void memberAdded(Member member) {
+        membersAdded(List.of(member));
+    }
+
+    /**
+     * 일괄 등록 (같은 버킷끼리 합쳐 카운터당 한 번만 갱신)
+     */
+    public void membersAdded(Collection<Member> members) {
+        Map<ChurchStatistic.Key, Long> deltas = new HashMap<>();
+        members.forEach(member -> addMember(deltas, MemberSnapshot.of(member), 1));
+        statisticRepository.increment(deltas);
+    }
+
+    public void memberChanged(MemberSnapshot before, Member after) {
+        // 바뀌지 않은 필드는 -1/+1이 상쇄되어 갱신하지 않음
+        Map<ChurchStatistic.Key, Long> deltas = new HashMap<>();
+        addMember(deltas, before, -1);
+        addMember(deltas, MemberSnapshot.of(after), 1);
+        statisticRepository.increment(deltas);
+    }
+
+    public void memberRemoved(Member member) {
+        Map<ChurchStatistic.Key, Long> deltas = new HashMap<>();
+        addMember(deltas, MemberSnapshot.of(member), -1);
+        statisticRepository.increment(deltas);
+    }
+
+    public void departmentAdded(Department department) {
+        departmentChanged(department.getChurch().getId(), null, department.getCategory());
+    }
+
+    public void departmentChanged(Long churchId, DepartmentCategory before, DepartmentCategory after) {
+        if (before == after) {
+            return;
+        }
+        Map<ChurchStatistic.Key, Long> deltas = new HashMap<>();
+        add(deltas, churchId, StatisticMetric.DEPARTMENT_CATEGORY, before, -1);
+        add(deltas, churchId, StatisticMetric.DEPARTMENT_CATEGORY, after, 1);
+        statisticRepository.increment(deltas);
+    }
+
+    public void departmentRemoved(Long churchId, Long departmentId, DepartmentCategory category) {
+        departmentChanged(churchId, category, null);
+        statisticRepository.delete(new ChurchStatistic.Key(churchId, StatisticMetric.DEPARTMENT_MEMBERS, departmentId.toString()));
+    }
+
+    public void contentAdded(Content content) {
+        contentChanged(content, 1);
+    }
+
+    public void contentRemoved(Content content) {
+        contentChanged(content, -1);
+    }
+
+    // ========== 조회 / 보정 ==========
+
+    @Transactional(readOnly = true)
+    public List<ChurchStatistic> findByChurchId(Long churchId) {
+        return statisticRepository.findByChurchId(churchId);
+    }
+
+    /**
+     * 원본 테이블에서 다시 계산해 카운터와 다른 항목만 고침
+     *
+     * 교회 단위 배타 잠금을 먼저 잡아 진행 중인 증감이 커밋된 뒤에 원본을 세고, 보정이 끝날 때까지 새 증감을 막습니다.
+     * 상태/역할/성별/카테고리는 0건도 행으로 남기므로, 한 번이라도 계산된 교회는 카운터가 비어 있지 않습니다.
+     * 반환값은 보정 후 카운터입니다.
+     */
+    public List<ChurchStatistic> reconcile(Long churchId) {
+        statisticRepository.lockForReconcile(churchId);
+
+        Map<ChurchStatistic.Key, Long> fresh = new HashMap<>();
+        putAll(fresh, churchId, StatisticMetric.MEMBER_STATUS, MemberStatus.values(), memberRepository.countByStatus(churchId));
+        putAll(fresh, churchId, StatisticMetric.MEMBER_ROLE, MemberRole.values(), memberRepository.countByRole(churchId));
+        putAll(fresh, churchId, StatisticMetric.MEMBER_GENDER, Gender.values(), memberRepository.countByGender(churchId));
+        putAll(fresh, churchId, StatisticMetric.DEPARTMENT_CATEGORY, DepartmentCategory.values(),
+                departmentRepository.countByCategory(churchId));
+        putAll(fresh, churchId, StatisticMetric.DEPARTMENT_MEMBERS, new Object[0], memberRepository.countByDepartment(churchId));
+        contentRepository.countByMonth(churchId).forEach(row -> fresh.put(
+                new ChurchStatistic.Key(churchId, StatisticMetric.CONTENT_MONTH,
+                        YearMonth.of(row.getCreatedYear(), row.getCreatedMonth()).toString()),
+                row.getTotal()));
+
+        Map<ChurchStatistic.Key, Long> current = new HashMap<>();
+        statisticRepository.findByChurchId(churchId).forEach(statistic -> current.put(statistic.getKey(), statistic.getTotal()));
+
+        Map<ChurchStatistic.Key, Long> changed = new HashMap<>();
+        fresh.forEach((key, total) -> {
+            if (!Objects.equals(total, current.get(key))) {
+                changed.put(key, total);
+            }
+        });
+        List<ChurchStatistic.Key> stale = current.keySet().stream()
+                .filter(key -> !fresh.containsKey(key))
+                .toList();
+        statisticRepository.setTotals(changed);
+        statisticRepository.delete(stale);
+        if (!current.isEmpty() && (!changed.isEmpty() || !stale.isEmpty())) {
+            log.info("교회 통계 보정 - churchId: {}, 변경된 카운터: {}개, 삭제된 카운터: {}개", churchId, changed.size(), stale.size());
+        }
+
+        return fresh.entrySet().stream()
+                .map(entry -> new ChurchStatistic(churchId, entry.getKey().getMetric(), entry.getKey().getBucket(), entry.getValue()))
+                .toList();
+    }
+
+    public int deleteOrphans() {
+        return statisticRepository.deleteOrphans();
+    }
+
+    // ========== 내부 처리 ==========
+
+    private void addMember(Map<ChurchStatistic.Key, Long> deltas, MemberSnapshot member, long delta) {
+        Long churchId = member.churchId();
+        add(deltas, churchId, StatisticMetric.MEMBER_STATUS, member.status(), delta);
+        add(deltas, churchId, StatisticMetric.MEMBER_ROLE, member.role(), delta);
+        add(deltas, churchId, StatisticMetric.MEMBER_GENDER, member.gender(), delta);
+        add(deltas, churchId, StatisticMetric.DEPARTMENT_MEMBERS, member.departmentId(), delta);
+    }
+
+    private void contentChanged(Content content, long delta) {
+        // 저장 직후에는 감사(Auditing)로 생성 시각이 채워져 있음
+        LocalDateTime createdAt = content.getCreatedAt() != null ? content.getCreatedAt() : LocalDateTime.now();
+        Map<ChurchStatistic.Key, Long> deltas = new HashMap<>();
+        add(deltas, content.getChurch().getId(), StatisticMetric.CONTENT_MONTH, YearMonth.from(createdAt), delta);
+        statisticRepository.increment(deltas);
+    }
+
+    private static void add(Map<ChurchStatistic.Key, Long> deltas, Long churchId, StatisticMetric metric,
+                            Object bucket, long delta) {
+        if (bucket == null) {
+            return;
+        }
+        deltas.merge(new ChurchStatistic.Key(churchId, metric, bucket.toString()), delta, Long::sum);
+    }
+
+    private static void putAll(Map<ChurchStatistic.Key, Long> counts, Long churchId, StatisticMetric metric,
+                               Object[] zeroBuckets, List<GroupCountRow> rows) {
+        for (Object bucket : zeroBuckets) {
+            counts.put(new ChurchStatistic.Key(churchId, metric, bucket.toString()), 0L);
+        }
+        for (GroupCountRow row : rows) {
+            if (row.getGroupKey() != null) {
+                counts.put(new ChurchStatistic.Key(churchId, metric, row.getGroupKey().toString()), row.getTotal());
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.twothree.backend.domain;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.cache.FutureLoader;
+import com.twothree.backend.cache.LocalInvalidationListener;
+import com.twothree.backend.event.ContentEvent;
+import com.twothree.backend.event.MembershipEvent;
+import com.twothree.backend.repository.ContentDepartmentRepository;
+import com.twothree.backend.repository.MemberDepartmentRepository;
+import com.twothree.backend.repository.MemberRelationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시물 공개범위 인덱스 (부서 → 게시물, 멤버 → 접근 가능 부서)
+ *
+ * content_departments 전체를 읽어 필터링하던 피드 조회를 부서 단위 조회로 바꾸기 위한 메모리 인덱스입니다.
+ * 게시물 쓰기와 멤버 소속 변경은 커밋 이후 이벤트로 반영하고, 같은 변경을 캐시 무효화 채널로 알려
+ * 다른 인스턴스가 해당 게시물의 매핑만 다시 읽거나 멤버 항목을 비우게 합니다.
+ * 주기적인 재구성은 메시지 유실에 대비한 안전장치입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentVisibilityIndex implements LocalInvalidationListener {
+
+    public static final String NAME = "contentVisibility";
+    private static final String CONTENT_KEY = "content:";
+    private static final String MEMBER_KEY = "member:";
+    private static final String CHILDREN_KEY = "children:";
+
+    private final ContentDepartmentRepository contentDepartmentRepository;
+    private final MemberDepartmentRepository memberDepartmentRepository;
+    private final MemberRelationRepository memberRelationRepository;
+    private final CacheInvalidationPublisher publisher;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<Consumer<Postings>> pendingDuringRebuild = new ArrayList<>();
+    private volatile Postings postings = new Postings();
+    private volatile boolean ready = false;
+    private boolean rebuilding = false;
+
+    // 멤버 → 직접 소속 부서, 부모 → 자녀 (조회 시 지연 로딩, 변경 이벤트로 무효화)
+    // 적재는 FutureLoader로 맵 잠금 밖에서 수행 (가상 스레드 고정 방지, 적재 중 무효화 시 결과 버림)
+    private final ConcurrentMap<Long, CompletableFuture<Set<Long>>> departmentsByMember = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, CompletableFuture<List<Long>>> childrenByParent = new ConcurrentHashMap<>();
+
+    // ========== 조회 ==========
+
+    /**
+     * 멤버 본인 소속 부서
+     */
+    public Set<Long> getMyDepartmentIds(Long memberId) {
+        return FutureLoader.getOrLoad(departmentsByMember, memberId,
+                id -> Set.copyOf(memberDepartmentRepository.findDepartmentIdsByMemberId(id)));
+    }
+
+    /**
+     * 멤버의 자녀들이 속한 부서
+     */
+    public Set<Long> getChildrenDepartmentIds(Long memberId) {
+        List<Long> childIds = FutureLoader.getOrLoad(childrenByParent, memberId,
+                id -> List.copyOf(memberRelationRepository.findChildIdsByParentId(id)));
+        Set<Long> result = new HashSet<>();
+        for (Long childId : childIds) {
+            result.addAll(getMyDepartmentIds(childId));
+        }
+        return result;
+    }
+
+    /**
+     * 멤버가 접근 가능한 전체 부서 (본인 + 자녀)
+     */
+    public Set<Long> getReachableDepartmentIds(Long memberId) {
+        Set<Long> result = new HashSet<>(getMyDepartmentIds(memberId));
+        result.addAll(getChildrenDepartmentIds(memberId));
+        return result;
+    }
+
+    /**
+     * 주어진 부서들에 공개된 게시물 ID (최신순)
+     */
+    public List<Long> getContentIdsVisibleTo(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> contentIds = new HashSet<>();
+        if (ready) {
+            Postings current = postings;
+            for (Long departmentId : departmentIds) {
+                Set<Long> ids = current.contentsByDepartment.get(departmentId);
+                if (ids != null) {
+                    contentIds.addAll(ids);
+                }
+            }
+        } else {
+            // 인덱스 적재 전에는 부서 조건 쿼리로 대체
+            contentIds.addAll(contentDepartmentRepository.findContentIdsByDepartmentIdIn(departmentIds));
+        }
+
+        List<Long> sorted = new ArrayList<>(contentIds);
+        sorted.sort(Comparator.reverseOrder());
+        return sorted;
+    }
+
+    // ========== 증분 반영 ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChanged(ContentEvent event) {
+        Long contentId = event.getContent().getId();
+        if (event instanceof ContentEvent.ContentDeleted) {
+            apply(p -> p.remove(contentId));
+        } else {
+            Set<Long> departmentIds = Set.copyOf(event.getDepartmentIds());
+            apply(p -> p.replace(contentId, departmentIds));
+        }
+        publisher.publishEvict(NAME, CONTENT_KEY + contentId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipEvent event) {
+        if (event instanceof MembershipEvent.ChildrenChanged) {
+            childrenByParent.remove(event.getMemberId());
+            publisher.publishEvict(NAME, CHILDREN_KEY + event.getMemberId());
+        } else {
+            departmentsByMember.remove(event.getMemberId());
+            publisher.publishEvict(NAME, MEMBER_KEY + event.getMemberId());
+        }
+    }
+
+    // ========== 다른 인스턴스 변경 반영 ==========
+
+    @Override
+    public String getInvalidationName() {
+        return NAME;
+    }
+
+    /**
+     * 게시물은 커밋된 매핑을 다시 읽어 교체하고, 멤버 소속/자녀는 다음 조회 때 다시 적재
+     */
+    @Override
+    public void evictLocal(String key) {
+        if (key.startsWith(CONTENT_KEY)) {
+            Long contentId = Long.valueOf(key.substring(CONTENT_KEY.length()));
+            Set<Long> departmentIds = Set.copyOf(contentDepartmentRepository.findDepartmentIdsByContentId(contentId));
+            apply(p -> p.replace(contentId, departmentIds));
+        } else if (key.startsWith(MEMBER_KEY)) {
+            departmentsByMember.remove(Long.valueOf(key.substring(MEMBER_KEY.length())));
+        } else if (key.startsWith(CHILDREN_KEY)) {
+            childrenByParent.remove(Long.valueOf(key.substring(CHILDREN_KEY.length())));
+        }
+    }
+
+    @Override
+    public void clearLocal() {
+        rebuild();
+    }
+
+    private void apply(Consumer<Postings> change) {
+        writeLock.lock();
+        try {
+            change.accept(postings);
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ========== 전체 재구성 ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 인덱스를 다시 만듭니다. 적재 중 들어온 증분 변경은 교체 직후 다시 적용합니다.
+     */
+    @Scheduled(
+        initialDelayString = "${application.content.visibility-index.rebuild-interval:3600000}",
+        fixedDelayString = "${application.content.visibility-index.rebuild-interval:3600000}"
+    )
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            Postings fresh = new Postings();
+            for (ContentDepartmentRepository.ContentDepartmentLink link : contentDepartmentRepository.findAllLinks()) {
+                fresh.add(link.getContentId(), link.getDepartmentId());
+            }
+
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                postings = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+                writeLock.unlock();
+            }
+
+            // 소속/자녀 정보는 다음 조회 시 다시 적재
+            departmentsByMember.clear();
+            childrenByParent.clear();
+            log.info("게시물 공개범위 인덱스 재구성 완료 - 게시물: {}개, 부서: {}개",
+                    fresh.departmentsByContent.size(), fresh.contentsByDepartment.size());
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                writeLock.unlock();
+            }
+            log.error("게시물 공개범위 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 부서 → 게시물, 게시물 → 부서 양방향 포스팅 목록
+     */
+    private static final class Postings {
+        private final Map<Long, Set<Long>> contentsByDepartment = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> departmentsByContent = new ConcurrentHashMap<>();
+
+        void add(Long contentId, Long departmentId) {
+            contentsByDepartment.computeIfAbsent(departmentId, k -> ConcurrentHashMap.newKeySet()).add(contentId);
+            departmentsByContent.computeIfAbsent(contentId, k -> ConcurrentHashMap.newKeySet()).add(departmentId);
+        }
+
+        void replace(Long contentId, Set<Long> departmentIds) {
+            remove(contentId);
+            for (Long departmentId : departmentIds) {
+                add(contentId, departmentId);
+            }
+        }
+
+        void remove(Long contentId) {
+            Set<Long> previous = departmentsByContent.remove(contentId);
+            if (previous == null) {
+                return;
+            }
+            for (Long departmentId : previous) {
+                Set<Long> ids = contentsByDepartment.get(departmentId);
+                if (ids != null) {
+                    ids.remove(contentId);
+                }
+            }
+        }
+    }
+}
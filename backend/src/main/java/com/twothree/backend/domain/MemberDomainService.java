@@ -5,18 +5,30 @@ import com.twothree.backend.entity.Department;
 import com.twothree.backend.entity.Member;
 import com.twothree.backend.enums.MemberRole;
 import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.event.MemberEvent;
+import com.twothree.backend.exception.ChurchException;
+import com.twothree.backend.exception.MemberException;
+import com.twothree.backend.repository.BulkInsertRepository;
 import com.twothree.backend.repository.ChurchRepository;
 import com.twothree.backend.repository.DepartmentRepository;
 import com.twothree.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -26,6 +38,9 @@ public class MemberDomainService {
     private final MemberRepository memberRepository;
     private final ChurchRepository churchRepository;
     private final DepartmentRepository departmentRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 멤버 생성 비즈니스 로직
@@ -43,7 +58,10 @@ public class MemberDomainService {
             member.setRole(MemberRole.MEMBER);
         }
         
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        churchStatisticsDomainService.memberAdded(savedMember);
+        eventPublisher.publishEvent(new MemberEvent.MemberCreated(this, savedMember));
+        return savedMember;
     }
     
     /**
@@ -57,10 +75,14 @@ public class MemberDomainService {
         // 비즈니스 규칙 검증
         validateMemberUpdate(existingMember, memberData);
         
-        // 엔티티 업데이트
+        // 엔티티 업데이트 (통계 카운터는 변경 전 값과 비교해 반영)
+        ChurchStatisticsDomainService.MemberSnapshot before = ChurchStatisticsDomainService.MemberSnapshot.of(existingMember);
         updateMemberFields(existingMember, memberData);
         
-        return memberRepository.save(existingMember);
+        Member savedMember = memberRepository.save(existingMember);
+        churchStatisticsDomainService.memberChanged(before, savedMember);
+        eventPublisher.publishEvent(new MemberEvent.MemberUpdated(this, savedMember));
+        return savedMember;
     }
     
     /**
@@ -79,9 +101,82 @@ public class MemberDomainService {
         validateMemberDeletion(member);
         
         memberRepository.delete(member);
+        churchStatisticsDomainService.memberRemoved(member);
+        eventPublisher.publishEvent(new MemberEvent.MemberDeleted(this, member));
         return true;
     }
     
+    /**
+     * 멤버 일괄 생성
+     *
+     * 교회는 한 번, 참조 부서는 IN 조회 한 번, 이메일 중복은 배치 전체에 대해 조회 한 번으로 검증한 뒤
+     * JDBC 배치 INSERT로 저장합니다. 하나라도 검증에 실패하면 아무것도 저장하지 않고 전체 오류를 반환합니다.
+     */
+    @Transactional
+    public List<Member> createMembers(Long churchId, List<Member> members) {
+        Church church = churchRepository.findById(churchId)
+                .orElseThrow(() -> ChurchException.notFound(churchId));
+        
+        Set<Long> departmentIds = members.stream()
+                .map(Member::getDepartment)
+                .filter(Objects::nonNull)
+                .map(Department::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+        
+        Set<String> emails = members.stream()
+                .map(Member::getEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(memberRepository.findExistingEmails(emails));
+        
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            try {
+                validateMemberFields(member);
+                if (member.getDepartment() != null) {
+                    Department department = departments.get(member.getDepartment().getId());
+                    if (department == null) {
+                        throw MemberException.departmentNotFound(member.getDepartment().getId());
+                    }
+                    // 부서의 교회는 지연 로딩 프록시라 ID 비교만으로 추가 조회 없음
+                    if (!department.getChurch().getId().equals(church.getId())) {
+                        throw MemberException.departmentMismatch();
+                    }
+                    member.setDepartment(department);
+                }
+                // 기존 데이터 + 같은 배치 안의 중복
+                if (!takenEmails.add(member.getEmail())) {
+                    throw MemberException.emailExists(member.getEmail());
+                }
+            } catch (MemberException e) {
+                errors.add("[" + i + "] " + e.getMessage());
+                continue;
+            }
+            
+            member.setChurch(church);
+            if (member.getStatus() == null) {
+                member.setStatus(MemberStatus.ACTIVE);
+            }
+            if (member.getRole() == null) {
+                member.setRole(MemberRole.MEMBER);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw MemberException.batchInvalid(errors);
+        }
+        
+        // ID/생성 시각은 INSERT 전에 엔티티에 채워지므로 재조회 없이 반환
+        bulkInsertRepository.insertMembers(members, null);
+        churchStatisticsDomainService.membersAdded(members);
+        members.forEach(saved -> eventPublisher.publishEvent(new MemberEvent.MemberCreated(this, saved)));
+        return members;
+    }
+    
     // ========== 조회 메서드들 ==========
     
     public Optional<Member> findById(Long id) {
@@ -120,6 +215,10 @@ public class MemberDomainService {
         return memberRepository.searchByKeywordAndChurchId(keyword, churchId);
     }
     
+    public List<Member> searchByPrefixAndChurchId(String keyword, Long churchId, Pageable pageable) {
+        return memberRepository.searchByPrefixAndChurchId(keyword, churchId, pageable);
+    }
+    
     public List<Member> findByBirthDateBetweenAndChurchId(LocalDate startDate, LocalDate endDate, Long churchId) {
         return memberRepository.findByBirthDateBetweenAndChurchId(startDate, endDate, churchId);
     }
@@ -166,35 +265,46 @@ public class MemberDomainService {
             throw new RuntimeException("Email already exists in this church: " + member.getEmail());
         }
         
+        validateMemberFields(member);
+    }
+    
+    /**
+     * DB 조회 없이 가능한 필드 검증 (단건/일괄 생성 공통)
+     */
+    private void validateMemberFields(Member member) {
         // 필수 필드 검증
         if (member.getName() == null || member.getName().trim().isEmpty()) {
-            throw new RuntimeException("Member name is required");
+            throw MemberException.nameRequired();
         }
         
         if (member.getEmail() == null || member.getEmail().trim().isEmpty()) {
-            throw new RuntimeException("Member email is required");
+            throw MemberException.emailRequired();
         }
         
         // 이메일 형식 검증 (간단한 검증)
         if (!member.getEmail().contains("@")) {
-            throw new RuntimeException("Invalid email format");
+            throw MemberException.invalidEmail();
+        }
+        
+        if (member.getGender() == null) {
+            throw MemberException.genderRequired();
         }
         
         // 생년월일 검증
         if (member.getBirthDate() != null && member.getBirthDate().isAfter(LocalDate.now())) {
-            throw new RuntimeException("Birth date cannot be in the future");
+            throw MemberException.invalidBirthDate();
         }
         
         // 세례일 검증
         if (member.getBaptismDate() != null && member.getBirthDate() != null && 
             member.getBaptismDate().isBefore(member.getBirthDate())) {
-            throw new RuntimeException("Baptism date cannot be before birth date");
+            throw MemberException.invalidBaptismDate();
         }
         
         // 입교일 검증
         if (member.getMembershipDate() != null && member.getBirthDate() != null && 
             member.getMembershipDate().isBefore(member.getBirthDate())) {
-            throw new RuntimeException("Membership date cannot be before birth date");
+            throw MemberException.invalidMembershipDate();
         }
     }
     
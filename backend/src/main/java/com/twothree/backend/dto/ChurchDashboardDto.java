@@ -0,0 +1,44 @@
+package com.twothree.backend.dto;
+
+import com.twothree.backend.enums.DepartmentCategory;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 교회 대시보드 집계 (멤버 목록 대신 건수만 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChurchDashboardDto {
+    private Long churchId;
+    private long memberCount;
+    private long unassignedMemberCount;
+    private long departmentCount;
+    private Map<MemberStatus, Long> membersByStatus;
+    private Map<MemberRole, Long> membersByRole;
+    private Map<Gender, Long> membersByGender;
+    private Map<DepartmentCategory, Long> departmentsByCategory;
+    private List<DepartmentCount> membersByDepartment;
+    private Map<String, Long> contentsByMonth; // yyyy-MM → 건수 (오래된 달부터)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DepartmentCount {
+        private Long departmentId;
+        private String name;
+        private DepartmentCategory category;
+        private long memberCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.twothree.backend.dto;
+
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.exception.ContentException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시물 키셋 페이지네이션 커서 (createdAt, id)
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 토큰으로만 노출합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ContentCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    public static ContentCursor of(Content content) {
+        return new ContentCursor(content.getCreatedAt(), content.getId());
+    }
+    
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static ContentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw ContentException.invalidCursor(token);
+            }
+            return new ContentCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw ContentException.invalidCursor(token);
+        }
+    }
+}
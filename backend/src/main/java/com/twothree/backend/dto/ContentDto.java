@@ -14,4 +14,5 @@ public class ContentDto {
     private List<Long> departmentIds; // 공개범위
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String highlight;       // 키워드 검색 시 일치 구간 스니펫 (<em> 강조)
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.twothree.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class ContentFeedRequest {
+    private Long memberId;
+    private String cursor;          // 이전 응답의 nextCursor (첫 페이지는 null)
+    private Integer size;
+}
@@ -15,4 +15,5 @@ public class ContentSearchRequest {
     private String sortDir;         // ASC, DESC
     private Integer page;
     private Integer size;
+    private String cursor;          // 키셋 페이지네이션(search-cursor)용, 이전 응답의 nextCursor
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.twothree.backend.dto;
+
+import com.twothree.backend.export.ExportFormat;
+import lombok.Data;
+
+@Data
+public class ExportRequest {
+    private Long churchId;
+    private ExportFormat format;
+}
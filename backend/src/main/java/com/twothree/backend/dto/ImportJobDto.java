@@ -0,0 +1,31 @@
+package com.twothree.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가져오기 작업 진행 상태
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto {
+    private Long jobExecutionId;
+    private String jobName;
+    private Long churchId;
+    private String status;
+    private long readCount;
+    private long insertedCount;
+    private long rejectedCount;
+    private long skippedCount;
+    private List<String> rejections;
+    private List<String> failures;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
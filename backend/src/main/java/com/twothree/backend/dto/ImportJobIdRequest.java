@@ -0,0 +1,8 @@
+package com.twothree.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class ImportJobIdRequest {
+    private Long jobExecutionId;
+}
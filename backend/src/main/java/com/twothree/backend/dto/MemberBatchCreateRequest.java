@@ -0,0 +1,11 @@
+package com.twothree.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MemberBatchCreateRequest {
+    private Long churchId;
+    private List<MemberDto> members;
+}
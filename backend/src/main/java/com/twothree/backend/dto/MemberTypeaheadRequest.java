@@ -0,0 +1,10 @@
+package com.twothree.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class MemberTypeaheadRequest {
+    private Long churchId;
+    private String keyword;
+    private Integer limit;
+}
@@ -17,6 +17,14 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
     
+    /**
+     * ID 시퀀스 증가폭 (pooled-lo: 시퀀스 값 하나로 ID 50개를 메모리에서 배정)
+     *
+     * IDENTITY는 INSERT마다 생성 키를 받아야 해서 Hibernate JDBC 배치가 꺼지므로 시퀀스를 사용합니다.
+     * 시퀀스의 INCREMENT BY와 같아야 합니다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -21,7 +21,8 @@ import com.twothree.backend.enums.ChurchStatus;
 public class Church extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "churches_seq")
+    @SequenceGenerator(name = "churches_seq", sequenceName = "churches_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -0,0 +1,53 @@
+package com.twothree.backend.entity;
+
+import com.twothree.backend.enums.StatisticMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 교회별 통계 카운터 (교회, 항목, 버킷) → 건수
+ *
+ * 쓰기 트랜잭션 안에서 증감하고 주기적으로 원본 테이블에서 다시 계산해 보정합니다.
+ * 교회 삭제와 무관하게 남을 수 있도록 외래 키를 두지 않습니다 (고아 행은 보정 작업이 정리).
+ */
+@Entity
+@Table(name = "church_statistics")
+@IdClass(ChurchStatistic.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChurchStatistic {
+    
+    @Id
+    @Column(name = "church_id")
+    private Long churchId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private StatisticMetric metric;
+    
+    @Id
+    @Column(length = 64)
+    private String bucket;
+    
+    @Column(nullable = false)
+    private long total;
+    
+    public Key getKey() {
+        return new Key(churchId, metric, bucket);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long churchId;
+        private StatisticMetric metric;
+        private String bucket;
+    }
+}
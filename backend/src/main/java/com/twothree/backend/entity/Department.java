@@ -22,7 +22,8 @@ import com.twothree.backend.enums.DepartmentCategory;
 public class Department extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
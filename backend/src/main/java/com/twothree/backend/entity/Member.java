@@ -23,7 +23,8 @@ import com.twothree.backend.enums.MemberRole;
 public class Member extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -1,5 +1,6 @@
 package com.twothree.backend.entity;
 
+import com.twothree.backend.event.MembershipEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,9 +13,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
+@EntityListeners(MembershipEntityListener.class)
 public class MemberDepartment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_departments_seq")
+    @SequenceGenerator(name = "member_departments_seq", sequenceName = "member_departments_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
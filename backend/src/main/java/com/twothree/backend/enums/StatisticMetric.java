@@ -0,0 +1,13 @@
+package com.twothree.backend.enums;
+
+/**
+ * 교회 통계 롤업 항목 (버킷 값 규칙)
+ */
+public enum StatisticMetric {
+    MEMBER_STATUS,        // 멤버 상태별 (MemberStatus 이름)
+    MEMBER_ROLE,          // 멤버 역할별 (MemberRole 이름)
+    MEMBER_GENDER,        // 멤버 성별 (Gender 이름)
+    DEPARTMENT_MEMBERS,   // 부서별 소속 멤버 (부서 ID)
+    DEPARTMENT_CATEGORY,  // 카테고리별 부서 (DepartmentCategory 이름)
+    CONTENT_MONTH         // 월별 콘텐츠 (yyyy-MM)
+}
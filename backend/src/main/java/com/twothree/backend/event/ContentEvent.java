@@ -0,0 +1,39 @@
+package com.twothree.backend.event;
+
+import com.twothree.backend.entity.Content;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ContentEvent extends BaseEvent {
+    
+    private final Content content;
+    private final List<Long> departmentIds;
+    private final String action;
+    
+    public ContentEvent(Object source, Content content, List<Long> departmentIds, String action) {
+        super(source, "CONTENT_" + action.toUpperCase());
+        this.content = content;
+        this.departmentIds = departmentIds != null ? List.copyOf(departmentIds) : List.of();
+        this.action = action;
+    }
+    
+    public static class ContentCreated extends ContentEvent {
+        public ContentCreated(Object source, Content content, List<Long> departmentIds) {
+            super(source, content, departmentIds, "CREATED");
+        }
+    }
+    
+    public static class ContentUpdated extends ContentEvent {
+        public ContentUpdated(Object source, Content content, List<Long> departmentIds) {
+            super(source, content, departmentIds, "UPDATED");
+        }
+    }
+    
+    public static class ContentDeleted extends ContentEvent {
+        public ContentDeleted(Object source, Content content) {
+            super(source, content, List.of(), "DELETED");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.twothree.backend.event;
+
+import com.twothree.backend.entity.Member;
+import lombok.Getter;
+
+@Getter
+public class MemberEvent extends BaseEvent {
+    
+    private final Member member;
+    private final String action;
+    
+    public MemberEvent(Object source, Member member, String action) {
+        super(source, "MEMBER_" + action.toUpperCase());
+        this.member = member;
+        this.action = action;
+    }
+    
+    public static class MemberCreated extends MemberEvent {
+        public MemberCreated(Object source, Member member) {
+            super(source, member, "CREATED");
+        }
+    }
+    
+    public static class MemberUpdated extends MemberEvent {
+        public MemberUpdated(Object source, Member member) {
+            super(source, member, "UPDATED");
+        }
+    }
+    
+    public static class MemberDeleted extends MemberEvent {
+        public MemberDeleted(Object source, Member member) {
+            super(source, member, "DELETED");
+        }
+    }
+}
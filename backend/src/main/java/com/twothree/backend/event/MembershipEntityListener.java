@@ -0,0 +1,34 @@
+package com.twothree.backend.event;
+
+import com.twothree.backend.entity.MemberDepartment;
+import com.twothree.backend.entity.MemberRelation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * member_departments / member_relations 쓰기를 {@link MembershipEvent}로 변환합니다.
+ * 두 테이블은 전용 서비스 없이 여러 경로에서 수정되므로 엔티티 리스너에서 일괄 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MembershipEntityListener {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof MemberDepartment memberDepartment && memberDepartment.getMember() != null) {
+            eventPublisher.publishEvent(
+                new MembershipEvent.DepartmentsChanged(this, memberDepartment.getMember().getId()));
+        } else if (entity instanceof MemberRelation relation && relation.getParent() != null) {
+            eventPublisher.publishEvent(
+                new MembershipEvent.ChildrenChanged(this, relation.getParent().getId()));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.twothree.backend.event;
+
+import lombok.Getter;
+
+/**
+ * 멤버의 부서 소속(member_departments) 또는 자녀 관계(member_relations) 변경 이벤트
+ */
+@Getter
+public class MembershipEvent extends BaseEvent {
+    
+    private final Long memberId;
+    
+    public MembershipEvent(Object source, Long memberId, String action) {
+        super(source, "MEMBERSHIP_" + action.toUpperCase());
+        this.memberId = memberId;
+    }
+    
+    /**
+     * memberId 멤버가 직접 속한 부서가 변경됨
+     */
+    public static class DepartmentsChanged extends MembershipEvent {
+        public DepartmentsChanged(Object source, Long memberId) {
+            super(source, memberId, "DEPARTMENTS_CHANGED");
+        }
+    }
+    
+    /**
+     * memberId 멤버(부모)의 자녀 목록이 변경됨
+     */
+    public static class ChildrenChanged extends MembershipEvent {
+        public ChildrenChanged(Object source, Long parentId) {
+            super(source, parentId, "CHILDREN_CHANGED");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.twothree.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AuthException extends BaseException {
+    
+    public static final String AUTH_TOKEN_VERSION_UNAVAILABLE = "AUTH_TOKEN_VERSION_UNAVAILABLE";
+    
+    public AuthException(String message, HttpStatus httpStatus, String errorCode, Throwable cause) {
+        super(message, httpStatus, errorCode, cause);
+    }
+    
+    /**
+     * 토큰 버전 저장소(Redis) 장애로 폐기할 수 없는 토큰을 발급하거나 폐기를 확인할 수 없음
+     */
+    public static AuthException tokenVersionUnavailable(String username, Throwable cause) {
+        return new AuthException(
+            "Token version store unavailable for user: " + username,
+            HttpStatus.SERVICE_UNAVAILABLE,
+            AUTH_TOKEN_VERSION_UNAVAILABLE,
+            cause
+        );
+    }
+}
@@ -10,6 +10,7 @@ public class ChurchException extends BaseException {
     public static final String CHURCH_NAME_REQUIRED = "CHURCH_NAME_REQUIRED";
     public static final String CHURCH_ADDRESS_REQUIRED = "CHURCH_ADDRESS_REQUIRED";
     public static final String CHURCH_CANNOT_DELETE_ACTIVE = "CHURCH_CANNOT_DELETE_ACTIVE";
+    public static final String CHURCH_DASHBOARD_FAILED = "CHURCH_DASHBOARD_FAILED";
     
     public ChurchException(String message, String errorCode) {
         super(message, HttpStatus.BAD_REQUEST, errorCode);
@@ -19,6 +20,10 @@ public class ChurchException extends BaseException {
         super(message, HttpStatus.BAD_REQUEST, errorCode, cause);
     }
     
+    public ChurchException(String message, HttpStatus httpStatus, String errorCode, Throwable cause) {
+        super(message, httpStatus, errorCode, cause);
+    }
+    
     public static ChurchException notFound(Long id) {
         return new ChurchException(
             "Church not found with id: " + id,
@@ -60,4 +65,16 @@ public class ChurchException extends BaseException {
             CHURCH_CANNOT_DELETE_ACTIVE
         );
     }
+    
+    /**
+     * 집계 시간 초과/중단/조회 실패 (요청 내용 문제가 아니므로 503, 잠시 후 재시도 가능)
+     */
+    public static ChurchException dashboardFailed(Long id, Throwable cause) {
+        return new ChurchException(
+            "Failed to aggregate dashboard for church id: " + id,
+            HttpStatus.SERVICE_UNAVAILABLE,
+            CHURCH_DASHBOARD_FAILED,
+            cause
+        );
+    }
 } 
\ No newline at end of file
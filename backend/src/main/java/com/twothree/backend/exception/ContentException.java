@@ -0,0 +1,49 @@
+package com.twothree.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Collection;
+
+public class ContentException extends BaseException {
+    
+    public static final String CONTENT_NOT_FOUND = "CONTENT_NOT_FOUND";
+    public static final String CONTENT_INVALID_CURSOR = "CONTENT_INVALID_CURSOR";
+    public static final String CONTENT_DEPARTMENT_NOT_FOUND = "CONTENT_DEPARTMENT_NOT_FOUND";
+    public static final String CONTENT_DEPARTMENT_MISMATCH = "CONTENT_DEPARTMENT_MISMATCH";
+    
+    public ContentException(String message, String errorCode) {
+        super(message, HttpStatus.BAD_REQUEST, errorCode);
+    }
+    
+    public ContentException(String message, String errorCode, Throwable cause) {
+        super(message, HttpStatus.BAD_REQUEST, errorCode, cause);
+    }
+    
+    public static ContentException notFound(Long id) {
+        return new ContentException(
+            "Content not found with id: " + id,
+            CONTENT_NOT_FOUND
+        );
+    }
+    
+    public static ContentException invalidCursor(String cursor) {
+        return new ContentException(
+            "Invalid content cursor: " + cursor,
+            CONTENT_INVALID_CURSOR
+        );
+    }
+    
+    public static ContentException departmentNotFound(Collection<Long> departmentIds) {
+        return new ContentException(
+            "Departments not found with ids: " + departmentIds,
+            CONTENT_DEPARTMENT_NOT_FOUND
+        );
+    }
+    
+    public static ContentException departmentMismatch(Long departmentId) {
+        return new ContentException(
+            "Department " + departmentId + " does not belong to the content's church",
+            CONTENT_DEPARTMENT_MISMATCH
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.twothree.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ImportException extends BaseException {
+    
+    public static final String IMPORT_UNSUPPORTED_FORMAT = "IMPORT_UNSUPPORTED_FORMAT";
+    public static final String IMPORT_CHURCH_REQUIRED = "IMPORT_CHURCH_REQUIRED";
+    public static final String IMPORT_JOB_NOT_FOUND = "IMPORT_JOB_NOT_FOUND";
+    public static final String IMPORT_NOT_RESTARTABLE = "IMPORT_NOT_RESTARTABLE";
+    public static final String IMPORT_LAUNCH_FAILED = "IMPORT_LAUNCH_FAILED";
+    public static final String IMPORT_BUSY = "IMPORT_BUSY";
+    
+    public ImportException(String message, String errorCode) {
+        super(message, HttpStatus.BAD_REQUEST, errorCode);
+    }
+    
+    public ImportException(String message, String errorCode, Throwable cause) {
+        super(message, HttpStatus.BAD_REQUEST, errorCode, cause);
+    }
+    
+    public ImportException(String message, HttpStatus httpStatus, String errorCode) {
+        super(message, httpStatus, errorCode);
+    }
+    
+    public static ImportException unsupportedFormat(String fileName) {
+        return new ImportException(
+            "Unsupported import file (csv or xlsx expected): " + fileName,
+            IMPORT_UNSUPPORTED_FORMAT
+        );
+    }
+    
+    public static ImportException churchRequired() {
+        return new ImportException(
+            "churchId is required for this import",
+            IMPORT_CHURCH_REQUIRED
+        );
+    }
+    
+    public static ImportException jobNotFound(Long jobExecutionId) {
+        return new ImportException(
+            "Import job not found with execution id: " + jobExecutionId,
+            IMPORT_JOB_NOT_FOUND
+        );
+    }
+    
+    public static ImportException notRestartable(Long jobExecutionId, String status) {
+        return new ImportException(
+            "Import job " + jobExecutionId + " cannot be restarted in status " + status,
+            IMPORT_NOT_RESTARTABLE
+        );
+    }
+    
+    public static ImportException launchFailed(Throwable cause) {
+        return new ImportException(
+            "Failed to start import job: " + cause.getMessage(),
+            IMPORT_LAUNCH_FAILED,
+            cause
+        );
+    }
+    
+    /**
+     * 실행 중/대기 중인 작업이 가득 참 (요청 내용 문제가 아니므로 503, 잠시 후 재시도 가능)
+     */
+    public static ImportException busy(int slots) {
+        return new ImportException(
+            "Too many import jobs running or queued (limit " + slots + "), retry later",
+            HttpStatus.SERVICE_UNAVAILABLE,
+            IMPORT_BUSY
+        );
+    }
+}
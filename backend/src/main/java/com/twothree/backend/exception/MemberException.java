@@ -2,6 +2,8 @@ package com.twothree.backend.exception;
 
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 public class MemberException extends BaseException {
     
     public static final String MEMBER_NOT_FOUND = "MEMBER_NOT_FOUND";
@@ -17,6 +19,9 @@ public class MemberException extends BaseException {
     public static final String MEMBER_PASTOR_LIMIT_EXCEEDED = "MEMBER_PASTOR_LIMIT_EXCEEDED";
     public static final String MEMBER_CANNOT_DELETE_PASTOR = "MEMBER_CANNOT_DELETE_PASTOR";
     public static final String MEMBER_CANNOT_DELETE_ACTIVE = "MEMBER_CANNOT_DELETE_ACTIVE";
+    public static final String MEMBER_GENDER_REQUIRED = "MEMBER_GENDER_REQUIRED";
+    public static final String MEMBER_BATCH_TOO_LARGE = "MEMBER_BATCH_TOO_LARGE";
+    public static final String MEMBER_BATCH_INVALID = "MEMBER_BATCH_INVALID";
     
     public MemberException(String message, String errorCode) {
         super(message, HttpStatus.BAD_REQUEST, errorCode);
@@ -116,4 +121,25 @@ public class MemberException extends BaseException {
             MEMBER_CANNOT_DELETE_ACTIVE
         );
     }
-} 
\ No newline at end of file
+    
+    public static MemberException genderRequired() {
+        return new MemberException(
+            "Member gender is required",
+            MEMBER_GENDER_REQUIRED
+        );
+    }
+    
+    public static MemberException batchTooLarge(int size, int max) {
+        return new MemberException(
+            "Too many members in one batch: " + size + " (max " + max + ")",
+            MEMBER_BATCH_TOO_LARGE
+        );
+    }
+    
+    public static MemberException batchInvalid(List<String> errors) {
+        return new MemberException(
+            "Invalid members in batch: " + String.join("; ", errors),
+            MEMBER_BATCH_INVALID
+        );
+    }
+}
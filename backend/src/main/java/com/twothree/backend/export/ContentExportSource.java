@@ -0,0 +1,80 @@
+package com.twothree.backend.export;
+
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.repository.ContentDepartmentRepository;
+import com.twothree.backend.repository.ContentRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ContentExportSource implements ExportSource<ContentExportSource.Row> {
+    
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            ExportColumn.of("ID", 8, r -> r.getContent().getId()),
+            ExportColumn.of("Title", 30, r -> r.getContent().getTitle()),
+            ExportColumn.of("Body", 60, r -> r.getContent().getBody()),
+            ExportColumn.of("Author", 16, r -> r.getContent().getAuthor() != null ? r.getContent().getAuthor().getName() : null),
+            ExportColumn.of("Department IDs", 16, r -> r.getDepartmentIds().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(";"))),
+            ExportColumn.of("Created At", 20, r -> r.getContent().getCreatedAt()),
+            ExportColumn.of("Updated At", 20, r -> r.getContent().getUpdatedAt())
+    );
+    
+    private final ContentRepository contentRepository;
+    private final ContentDepartmentRepository contentDepartmentRepository;
+    
+    @Override
+    public ExportTarget getTarget() {
+        return ExportTarget.CONTENTS;
+    }
+    
+    @Override
+    public List<ExportColumn<Row>> getColumns() {
+        return COLUMNS;
+    }
+    
+    /**
+     * 게시물 청크 + 공개 부서 (청크마다 IN 조회 한 번)
+     */
+    @Override
+    public List<Row> fetchChunk(Long churchId, Long afterId, int size) {
+        List<Content> contents = contentRepository.findByChurchIdAndIdGreaterThanOrderByIdAsc(churchId, afterId, PageRequest.of(0, size));
+        if (contents.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, List<Long>> departmentIds = new HashMap<>();
+        List<Long> contentIds = contents.stream().map(Content::getId).toList();
+        for (ContentDepartmentRepository.ContentDepartmentLink link : contentDepartmentRepository.findLinksByContentIdIn(contentIds)) {
+            departmentIds.computeIfAbsent(link.getContentId(), k -> new ArrayList<>()).add(link.getDepartmentId());
+        }
+        
+        List<Row> rows = new ArrayList<>(contents.size());
+        for (Content content : contents) {
+            rows.add(new Row(content, departmentIds.getOrDefault(content.getId(), List.of())));
+        }
+        return rows;
+    }
+    
+    @Override
+    public Long idOf(Row row) {
+        return row.getContent().getId();
+    }
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class Row {
+        private final Content content;
+        private final List<Long> departmentIds;
+    }
+}
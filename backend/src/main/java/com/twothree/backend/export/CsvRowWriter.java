@@ -0,0 +1,87 @@
+package com.twothree.backend.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 출력기 (엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 포함)
+ *
+ * 스프레드시트가 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작하는 텍스트는 앞에 작은따옴표를 붙여
+ * 수식 주입(CSV injection)을 막습니다. 숫자 값은 그대로 씁니다.
+ */
+public class CsvRowWriter implements ExportRowWriter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Writer writer;
+    
+    public CsvRowWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+    }
+    
+    @Override
+    public void writeHeader(List<? extends ExportColumn<?>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(columns.get(i).getHeader());
+        }
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void writeRow(List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            String text = ExportValues.toText(value);
+            writeField(value instanceof Number ? text : neutralizeFormula(text));
+        }
+        writer.write("\r\n");
+    }
+    
+    static String neutralizeFormula(String text) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        return formula ? "'" + text : text;
+    }
+    
+    private void writeField(String text) throws IOException {
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+    
+    @Override
+    public void close() {
+        // 응답 스트림은 컨테이너가 닫음
+    }
+}
@@ -0,0 +1,47 @@
+package com.twothree.backend.export;
+
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class DepartmentExportSource implements ExportSource<Department> {
+    
+    private static final List<ExportColumn<Department>> COLUMNS = List.of(
+            ExportColumn.of("ID", 8, Department::getId),
+            ExportColumn.of("Name", 20, Department::getName),
+            ExportColumn.of("Description", 40, Department::getDescription),
+            ExportColumn.of("Category", 14, Department::getCategory),
+            ExportColumn.of("Status", 10, Department::getStatus),
+            ExportColumn.of("Color", 10, Department::getColor),
+            ExportColumn.of("Icon", 10, Department::getIcon),
+            ExportColumn.of("Created At", 20, Department::getCreatedAt)
+    );
+    
+    private final DepartmentRepository departmentRepository;
+    
+    @Override
+    public ExportTarget getTarget() {
+        return ExportTarget.DEPARTMENTS;
+    }
+    
+    @Override
+    public List<ExportColumn<Department>> getColumns() {
+        return COLUMNS;
+    }
+    
+    @Override
+    public List<Department> fetchChunk(Long churchId, Long afterId, int size) {
+        return departmentRepository.findByChurchIdAndIdGreaterThanOrderByIdAsc(churchId, afterId, PageRequest.of(0, size));
+    }
+    
+    @Override
+    public Long idOf(Department row) {
+        return row.getId();
+    }
+}
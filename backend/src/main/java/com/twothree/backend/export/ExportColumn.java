@@ -0,0 +1,29 @@
+package com.twothree.backend.export;
+
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 열 정의 (헤더, 고정 너비, 값 추출)
+ */
+@Getter
+public class ExportColumn<T> {
+    
+    private final String header;
+    private final int width;
+    private final Function<T, Object> extractor;
+    
+    private ExportColumn(String header, int width, Function<T, Object> extractor) {
+        this.header = header;
+        this.width = width;
+        this.extractor = extractor;
+    }
+    
+    /**
+     * @param width XLSX 열 너비 (문자 수)
+     */
+    public static <T> ExportColumn<T> of(String header, int width, Function<T, Object> extractor) {
+        return new ExportColumn<>(header, width, extractor);
+    }
+}
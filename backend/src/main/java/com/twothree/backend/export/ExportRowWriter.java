@@ -0,0 +1,28 @@
+package com.twothree.backend.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 행 단위 출력기. 구현체는 전체 결과를 메모리에 모으지 않습니다.
+ * (CSV/NDJSON은 청크마다 응답 스트림으로 내보내고, XLSX는 임시 파일에 모았다가 finish에서 전송)
+ */
+public interface ExportRowWriter extends AutoCloseable {
+    
+    void writeHeader(List<? extends ExportColumn<?>> columns) throws IOException;
+    
+    void writeRow(List<Object> values) throws IOException;
+    
+    /**
+     * 청크 경계에서 호출. 스트리밍 형식은 버퍼를 비워 클라이언트 쪽으로 흘려보냄
+     */
+    void flush() throws IOException;
+    
+    /**
+     * 남은 내용을 기록하고 자원을 정리 (응답 스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+    
+    @Override
+    void close() throws IOException;
+}
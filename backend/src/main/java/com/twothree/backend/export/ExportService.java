@@ -0,0 +1,84 @@
+package com.twothree.backend.export;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 교회 단위 멤버/부서/게시물 스트리밍 내보내기
+ *
+ * ID 키셋 청크로 읽고(청크마다 영속성 컨텍스트 비움) 행 단위로 출력기에 넘깁니다. CSV/NDJSON은 다음 청크를
+ * 앞 청크를 응답 스트림에 다 쓴 뒤에 읽으므로, 느린 클라이언트에서는 쓰기가 막히면서 DB 읽기도 자연히 늦춰집니다.
+ * XLSX는 zip 구조상 {@link ExportRowWriter#finish()}까지 임시 파일에 모은 뒤 전송하므로 이 배압이 없습니다.
+ */
+@Service
+@Slf4j
+public class ExportService {
+    
+    private static final int CHUNK_SIZE = 1000;
+    
+    private final Map<ExportTarget, ExportSource<?>> sources = new EnumMap<>(ExportTarget.class);
+    private final EntityManager entityManager;
+    
+    public ExportService(List<ExportSource<?>> sources, EntityManager entityManager) {
+        sources.forEach(source -> this.sources.put(source.getTarget(), source));
+        this.entityManager = entityManager;
+    }
+    
+    @Transactional(readOnly = true)
+    public void export(ExportTarget target, Long churchId, ExportFormat format, OutputStream outputStream) throws IOException {
+        ExportSource<?> source = sources.get(target);
+        if (source == null) {
+            throw new IllegalArgumentException("Unsupported export target: " + target);
+        }
+        
+        long started = System.currentTimeMillis();
+        try (ExportRowWriter writer = createWriter(format, target, outputStream)) {
+            long rows = writeAll(source, churchId, writer);
+            writer.finish();
+            log.info("내보내기 완료 - target: {}, churchId: {}, format: {}, rows: {}, {}ms",
+                    target, churchId, format, rows, System.currentTimeMillis() - started);
+        }
+    }
+    
+    private <T> long writeAll(ExportSource<T> source, Long churchId, ExportRowWriter writer) throws IOException {
+        List<ExportColumn<T>> columns = source.getColumns();
+        writer.writeHeader(columns);
+        
+        long count = 0;
+        Long lastId = 0L;
+        List<T> chunk;
+        do {
+            chunk = source.fetchChunk(churchId, lastId, CHUNK_SIZE);
+            for (T row : chunk) {
+                List<Object> values = new ArrayList<>(columns.size());
+                for (ExportColumn<T> column : columns) {
+                    values.add(column.getExtractor().apply(row));
+                }
+                writer.writeRow(values);
+                lastId = source.idOf(row);
+                count++;
+            }
+            writer.flush();
+            // 다음 청크를 읽기 전에 이미 쓴 엔티티를 영속성 컨텍스트에서 제거
+            entityManager.clear();
+        } while (chunk.size() == CHUNK_SIZE);
+        return count;
+    }
+    
+    private ExportRowWriter createWriter(ExportFormat format, ExportTarget target, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case XLSX -> new XlsxRowWriter(outputStream, target.getSheetName());
+            case CSV -> new CsvRowWriter(outputStream);
+            case NDJSON -> new NdjsonRowWriter(outputStream);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.twothree.backend.export;
+
+import java.util.List;
+
+/**
+ * 내보내기 대상별 열 정의와 ID 순 청크 조회
+ *
+ * 열에서 쓰는 연관 데이터는 청크 조회 시 함께 읽어 두어야 합니다 (행마다 지연 로딩 금지).
+ */
+public interface ExportSource<T> {
+    
+    ExportTarget getTarget();
+    
+    List<ExportColumn<T>> getColumns();
+    
+    /**
+     * afterId보다 큰 ID를 ID 오름차순으로 최대 size건 조회
+     */
+    List<T> fetchChunk(Long churchId, Long afterId, int size);
+    
+    Long idOf(T row);
+}
@@ -0,0 +1,15 @@
+package com.twothree.backend.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportTarget {
+    MEMBERS("members", "Members"),
+    DEPARTMENTS("departments", "Departments"),
+    CONTENTS("contents", "Contents");
+    
+    private final String fileName;
+    private final String sheetName;
+}
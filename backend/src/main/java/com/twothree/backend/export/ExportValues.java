@@ -0,0 +1,28 @@
+package com.twothree.backend.export;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+final class ExportValues {
+    
+    private ExportValues() {
+    }
+    
+    /**
+     * 날짜는 ISO 형식, 열거형은 이름, 나머지는 toString
+     */
+    static String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof TemporalAccessor temporal) {
+            return value instanceof java.time.LocalDate
+                    ? DateTimeFormatter.ISO_LOCAL_DATE.format(temporal)
+                    : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(temporal);
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.twothree.backend.export;
+
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MemberExportSource implements ExportSource<Member> {
+    
+    private static final List<ExportColumn<Member>> COLUMNS = List.of(
+            ExportColumn.of("ID", 8, Member::getId),
+            ExportColumn.of("Name", 16, Member::getName),
+            ExportColumn.of("Email", 28, Member::getEmail),
+            ExportColumn.of("Phone", 16, Member::getPhone),
+            ExportColumn.of("Address", 40, Member::getAddress),
+            ExportColumn.of("Birth Date", 12, Member::getBirthDate),
+            ExportColumn.of("Gender", 8, Member::getGender),
+            ExportColumn.of("Status", 10, Member::getStatus),
+            ExportColumn.of("Role", 10, Member::getRole),
+            ExportColumn.of("Department", 16, m -> m.getDepartment() != null ? m.getDepartment().getName() : null),
+            ExportColumn.of("Baptism Date", 12, Member::getBaptismDate),
+            ExportColumn.of("Membership Date", 12, Member::getMembershipDate),
+            ExportColumn.of("Created At", 20, Member::getCreatedAt)
+    );
+    
+    private final MemberRepository memberRepository;
+    
+    @Override
+    public ExportTarget getTarget() {
+        return ExportTarget.MEMBERS;
+    }
+    
+    @Override
+    public List<ExportColumn<Member>> getColumns() {
+        return COLUMNS;
+    }
+    
+    @Override
+    public List<Member> fetchChunk(Long churchId, Long afterId, int size) {
+        return memberRepository.findByChurchIdAndIdGreaterThanOrderByIdAsc(churchId, afterId, PageRequest.of(0, size));
+    }
+    
+    @Override
+    public Long idOf(Member row) {
+        return row.getId();
+    }
+}
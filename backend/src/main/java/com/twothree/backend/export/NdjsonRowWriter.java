@@ -0,0 +1,69 @@
+package com.twothree.backend.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 한 줄에 한 객체씩 쓰는 NDJSON 출력기 (키는 열 헤더)
+ */
+public class NdjsonRowWriter implements ExportRowWriter {
+    
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    
+    private final JsonGenerator generator;
+    private List<String> keys;
+    
+    public NdjsonRowWriter(OutputStream outputStream) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+    }
+    
+    @Override
+    public void writeHeader(List<? extends ExportColumn<?>> columns) {
+        this.keys = columns.stream().map(ExportColumn::getHeader).toList();
+    }
+    
+    @Override
+    public void writeRow(List<Object> values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.size(); i++) {
+            generator.writeFieldName(keys.get(i));
+            Object value = values.get(i);
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long || value instanceof Integer) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Number number) {
+                generator.writeNumber(new BigDecimal(number.toString()));
+            } else if (value instanceof Boolean bool) {
+                generator.writeBoolean(bool);
+            } else {
+                generator.writeString(ExportValues.toText(value));
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
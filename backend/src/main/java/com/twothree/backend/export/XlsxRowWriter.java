@@ -0,0 +1,99 @@
+package com.twothree.backend.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * SXSSF 기반 XLSX 출력기
+ *
+ * 메모리에는 최근 ROW_WINDOW개 행만 두고 나머지는 압축된 임시 파일로 내보냅니다.
+ * XLSX는 zip 형식이라 실제 응답 전송은 {@link #finish()}에서 이루어집니다. 그 전까지는 응답이 나가지 않으므로
+ * 느린 클라이언트가 DB 읽기를 늦추지 못하고, 전체 결과가 임시 파일 크기만큼 디스크에 쌓입니다.
+ * 셀 하나에 담을 수 있는 글자 수(32,767자)를 넘는 값은 잘라서 씁니다.
+ */
+public class XlsxRowWriter implements ExportRowWriter {
+    
+    private static final int ROW_WINDOW = 100;
+    private static final int MAX_CELL_TEXT = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+    private static final String TRUNCATED_MARK = "…";
+    
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowNum = 0;
+    
+    public XlsxRowWriter(OutputStream outputStream, String sheetName) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+    }
+    
+    @Override
+    public void writeHeader(List<? extends ExportColumn<?>> columns) {
+        Row row = sheet.createRow(rowNum++);
+        for (int i = 0; i < columns.size(); i++) {
+            // autoSizeColumn은 전체 행을 다시 훑으므로 고정 너비 사용
+            sheet.setColumnWidth(i, columns.get(i).getWidth() * 256);
+            row.createCell(i).setCellValue(columns.get(i).getHeader());
+        }
+    }
+    
+    @Override
+    public void writeRow(List<Object> values) {
+        Row row = sheet.createRow(rowNum++);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(fitCell(ExportValues.toText(value)));
+            }
+        }
+    }
+    
+    /**
+     * 셀 최대 길이를 넘으면 잘라서 끝에 표시 (POI는 초과 시 IllegalArgumentException)
+     */
+    static String fitCell(String text) {
+        if (text.length() <= MAX_CELL_TEXT) {
+            return text;
+        }
+        int end = MAX_CELL_TEXT - TRUNCATED_MARK.length();
+        // 서로게이트 쌍 가운데에서 자르지 않음
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + TRUNCATED_MARK;
+    }
+    
+    @Override
+    public void flush() {
+        // 윈도우를 넘는 행은 SXSSF가 자동으로 임시 파일에 기록
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+        workbook.dispose();
+    }
+}
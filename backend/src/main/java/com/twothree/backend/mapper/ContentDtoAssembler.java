@@ -0,0 +1,60 @@
+package com.twothree.backend.mapper;
+
+import com.twothree.backend.dto.ContentDto;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.repository.ContentDepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 목록을 ContentDto로 일괄 변환합니다.
+ *
+ * 공개범위 부서는 페이지 단위로 한 번에 조회하고, 작성자/교회는 지연 프록시의 식별자만 읽으므로
+ * 목록 크기와 관계없이 추가 쿼리는 1회입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentDtoAssembler {
+    
+    private final ContentDepartmentRepository contentDepartmentRepository;
+    
+    public List<ContentDto> toDtoList(List<Content> contents) {
+        if (contents == null || contents.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> contentIds = contents.stream()
+                .map(Content::getId)
+                .collect(Collectors.toList());
+        
+        Map<Long, List<Long>> departmentIdsByContent = new HashMap<>();
+        for (ContentDepartmentRepository.ContentDepartmentLink link : contentDepartmentRepository.findLinksByContentIdIn(contentIds)) {
+            departmentIdsByContent.computeIfAbsent(link.getContentId(), k -> new ArrayList<>())
+                    .add(link.getDepartmentId());
+        }
+        
+        return contents.stream()
+                .map(content -> toDto(content, departmentIdsByContent.getOrDefault(content.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+    
+    public ContentDto toDto(Content content, List<Long> departmentIds) {
+        ContentDto dto = new ContentDto();
+        dto.setId(content.getId());
+        dto.setTitle(content.getTitle());
+        dto.setBody(content.getBody());
+        // 지연 프록시의 getId()는 초기화(추가 SELECT)를 일으키지 않음
+        dto.setAuthorId(content.getAuthor().getId());
+        dto.setChurchId(content.getChurch().getId());
+        dto.setCreatedAt(content.getCreatedAt());
+        dto.setUpdatedAt(content.getUpdatedAt());
+        dto.setDepartmentIds(departmentIds);
+        return dto;
+    }
+}
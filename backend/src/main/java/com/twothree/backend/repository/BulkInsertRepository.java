@@ -0,0 +1,186 @@
+package com.twothree.backend.repository;
+
+import com.twothree.backend.entity.BaseEntity;
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 등록용 JDBC 배치 INSERT
+ *
+ * 건별 persist/flush 대신 청크 전체를 한 번의 배치 문으로 보냅니다.
+ * ID는 엔티티와 같은 시퀀스에서 pooled-lo 방식으로 미리 배정해 엔티티에 채워 주므로 재조회가 필요 없습니다.
+ * JPA 감사(Auditing)를 거치지 않으므로 생성/수정 시각을 직접 채웁니다.
+ * 영속성 컨텍스트와 2차 캐시를 우회하므로 호출 측에서 캐시/인덱스 무효화를 책임집니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    private static final String INSERT_CHURCH =
+            "INSERT INTO churches (id, name, description, address, phone, email, website, pastor_name, pastor_phone, " +
+            "pastor_email, status, created_at, updated_at, created_by, updated_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DEPARTMENT =
+            "INSERT INTO departments (id, name, description, color, icon, category, church_id, status, " +
+            "created_at, updated_at, created_by, updated_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_MEMBER =
+            "INSERT INTO members (id, name, email, phone, address, birth_date, gender, status, role, profile_image_url, " +
+            "baptism_date, membership_date, notes, church_id, department_id, created_at, updated_at, created_by, updated_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile Dialect dialect;
+
+    public int insertChurches(List<Church> churches, String createdBy) {
+        if (churches.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        assignIds("churches_seq", churches, now);
+        jdbcTemplate.batchUpdate(INSERT_CHURCH, churches, churches.size(), (ps, church) -> {
+            ps.setLong(1, church.getId());
+            ps.setString(2, church.getName());
+            ps.setString(3, church.getDescription());
+            ps.setString(4, church.getAddress());
+            ps.setString(5, church.getPhone());
+            ps.setString(6, church.getEmail());
+            ps.setString(7, church.getWebsite());
+            ps.setString(8, church.getPastorName());
+            ps.setString(9, church.getPastorPhone());
+            ps.setString(10, church.getPastorEmail());
+            ps.setString(11, church.getStatus().name());
+            setAudit(ps, 12, now, createdBy);
+        });
+        return churches.size();
+    }
+
+    /**
+     * 부서 INSERT (church는 ID만 채운 참조여도 됨)
+     */
+    public int insertDepartments(List<Department> departments, String createdBy) {
+        if (departments.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        assignIds("departments_seq", departments, now);
+        jdbcTemplate.batchUpdate(INSERT_DEPARTMENT, departments, departments.size(), (ps, department) -> {
+            ps.setLong(1, department.getId());
+            ps.setString(2, department.getName());
+            ps.setString(3, department.getDescription());
+            ps.setString(4, department.getColor());
+            ps.setString(5, department.getIcon());
+            ps.setString(6, department.getCategory() != null ? department.getCategory().name() : null);
+            ps.setLong(7, department.getChurch().getId());
+            ps.setString(8, department.getStatus().name());
+            setAudit(ps, 9, now, createdBy);
+        });
+        return departments.size();
+    }
+
+    /**
+     * 멤버 INSERT (church/department는 ID만 채운 참조여도 됨)
+     */
+    public int insertMembers(List<Member> members, String createdBy) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        assignIds("members_seq", members, now);
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, members, members.size(), (ps, member) -> {
+            ps.setLong(1, member.getId());
+            ps.setString(2, member.getName());
+            ps.setString(3, member.getEmail());
+            ps.setString(4, member.getPhone());
+            ps.setString(5, member.getAddress());
+            setDate(ps, 6, member.getBirthDate());
+            ps.setString(7, member.getGender().name());
+            ps.setString(8, member.getStatus().name());
+            ps.setString(9, member.getRole().name());
+            ps.setString(10, member.getProfileImageUrl());
+            setDate(ps, 11, member.getBaptismDate());
+            setDate(ps, 12, member.getMembershipDate());
+            ps.setString(13, member.getNotes());
+            ps.setLong(14, member.getChurch().getId());
+            if (member.getDepartment() != null) {
+                ps.setLong(15, member.getDepartment().getId());
+            } else {
+                ps.setNull(15, Types.BIGINT);
+            }
+            setAudit(ps, 16, now, createdBy);
+        });
+        return members.size();
+    }
+
+    /**
+     * 시퀀스 값 하나당 ID_ALLOCATION_SIZE개씩 배정 (Hibernate pooled-lo와 같은 규칙이라 서로 겹치지 않음)
+     */
+    private void assignIds(String sequenceName, List<? extends BaseEntity> entities, LocalDateTime now) {
+        String nextValueSql = dialect().getSequenceSupport().getSequenceNextValString(sequenceName);
+        long next = 0;
+        long blockEnd = 0;
+        for (BaseEntity entity : entities) {
+            if (next == blockEnd) {
+                next = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+                blockEnd = next + BaseEntity.ID_ALLOCATION_SIZE;
+            }
+            setId(entity, next++);
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+        }
+    }
+
+    private static void setId(BaseEntity entity, long id) {
+        if (entity instanceof Church church) {
+            church.setId(id);
+        } else if (entity instanceof Department department) {
+            department.setId(id);
+        } else if (entity instanceof Member member) {
+            member.setId(id);
+        } else {
+            throw new IllegalArgumentException("Unsupported entity: " + entity.getClass().getSimpleName());
+        }
+    }
+
+    private Dialect dialect() {
+        if (dialect == null) {
+            dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        }
+        return dialect;
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+
+    private static void setAudit(PreparedStatement ps, int index, LocalDateTime now, String createdBy) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        ps.setTimestamp(index, timestamp);
+        ps.setTimestamp(index + 1, timestamp);
+        ps.setString(index + 2, createdBy);
+        ps.setString(index + 3, createdBy);
+    }
+}
@@ -2,14 +2,19 @@ package com.twothree.backend.repository;
 
 import com.twothree.backend.entity.Church;
 import com.twothree.backend.enums.ChurchStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ChurchRepository extends JpaRepository<Church, Long> {
@@ -23,9 +28,27 @@ public interface ChurchRepository extends JpaRepository<Church, Long> {
     @Query("SELECT c FROM Church c WHERE c.name LIKE %:keyword% OR c.description LIKE %:keyword%")
     List<Church> searchByKeyword(@Param("keyword") String keyword);
     
+    /**
+     * 내보내기용 전진 전용 커서 조회 (트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Church> streamAllByOrderByIdAsc();
+    
     boolean existsByName(String name);
     
     boolean existsByEmail(String email);
     
+    /**
+     * 일괄 등록 시 청크 단위 교회명 중복 검사 (한 번의 IN 조회)
+     */
+    @Query("SELECT c.name FROM Church c WHERE c.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+    
+    @Query("SELECT c.id FROM Church c ORDER BY c.id")
+    List<Long> findAllIds();
+    
     long deleteByStatusAndUpdatedAtBefore(ChurchStatus status, LocalDateTime cutoffDate);
 } 
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.twothree.backend.repository;
+
+import com.twothree.backend.entity.ChurchStatistic;
+import com.twothree.backend.enums.StatisticMetric;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 교회 통계 카운터 JDBC 접근
+ *
+ * 증감은 행이 없으면 만들고 있으면 더하는 upsert 한 문장으로 처리합니다 (PostgreSQL: ON CONFLICT, 그 외: MERGE).
+ * 같은 카운터 행은 커밋까지 행 잠금이 유지되므로, 교착을 피하기 위해 항상 (교회, 항목, 버킷) 순서로 갱신합니다.
+ *
+ * 증감/삭제는 교회 단위 공유 잠금을, 보정은 배타 잠금을 트랜잭션 끝까지 잡습니다.
+ * 보정은 진행 중인 증감이 커밋된 뒤에 원본을 세고, 보정 중 시작된 증감은 보정이 커밋된 뒤에 더해지므로 증감이 유실되지 않습니다.
+ * PostgreSQL은 트랜잭션 advisory lock을, 그 외(H2)는 교회 행의 SELECT ... FOR UPDATE를 사용합니다 (이 경우 증감끼리도 직렬화).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChurchStatisticRepository {
+
+    private static final String UPSERT_POSTGRESQL =
+            "INSERT INTO church_statistics (church_id, metric, bucket, total) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (church_id, metric, bucket) DO UPDATE SET total = church_statistics.total + EXCLUDED.total";
+
+    private static final String UPSERT_MERGE =
+            "MERGE INTO church_statistics t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(32)), " +
+            "CAST(? AS VARCHAR(64)), CAST(? AS BIGINT))) s (church_id, metric, bucket, total) " +
+            "ON t.church_id = s.church_id AND t.metric = s.metric AND t.bucket = s.bucket " +
+            "WHEN MATCHED THEN UPDATE SET total = t.total + s.total " +
+            "WHEN NOT MATCHED THEN INSERT (church_id, metric, bucket, total) VALUES (s.church_id, s.metric, s.bucket, s.total)";
+
+    private static final String SET_POSTGRESQL =
+            "INSERT INTO church_statistics (church_id, metric, bucket, total) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (church_id, metric, bucket) DO UPDATE SET total = EXCLUDED.total";
+
+    private static final String SET_MERGE =
+            "MERGE INTO church_statistics t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(32)), " +
+            "CAST(? AS VARCHAR(64)), CAST(? AS BIGINT))) s (church_id, metric, bucket, total) " +
+            "ON t.church_id = s.church_id AND t.metric = s.metric AND t.bucket = s.bucket " +
+            "WHEN MATCHED THEN UPDATE SET total = s.total " +
+            "WHEN NOT MATCHED THEN INSERT (church_id, metric, bucket, total) VALUES (s.church_id, s.metric, s.bucket, s.total)";
+
+    private static final String DELETE =
+            "DELETE FROM church_statistics WHERE church_id = ? AND metric = ? AND bucket = ?";
+
+    // advisory lock 첫 번째 키 (다른 용도의 잠금과 겹치지 않도록 구분). 교회 ID 해시 충돌은 대기만 늘어남
+    private static final int LOCK_NAMESPACE = 0x43535431;
+
+    private static final String LOCK_SHARED_POSTGRESQL = "SELECT pg_advisory_xact_lock_shared(?, ?)";
+    private static final String LOCK_EXCLUSIVE_POSTGRESQL = "SELECT pg_advisory_xact_lock(?, ?)";
+    private static final String LOCK_CHURCH_ROW = "SELECT id FROM churches WHERE id = ? FOR UPDATE";
+
+    private static final Comparator<ChurchStatistic.Key> UPDATE_ORDER = Comparator
+            .comparing(ChurchStatistic.Key::getChurchId)
+            .thenComparing(ChurchStatistic.Key::getMetric)
+            .thenComparing(ChurchStatistic.Key::getBucket);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile Boolean postgres;
+
+    public List<ChurchStatistic> findByChurchId(Long churchId) {
+        return jdbcTemplate.query(
+                "SELECT church_id, metric, bucket, total FROM church_statistics WHERE church_id = ?",
+                (rs, rowNum) -> new ChurchStatistic(rs.getLong(1), StatisticMetric.valueOf(rs.getString(2)),
+                        rs.getString(3), rs.getLong(4)),
+                churchId);
+    }
+
+    /**
+     * 카운터 증감 (0인 항목은 건너뜀)
+     */
+    public void increment(Map<ChurchStatistic.Key, Long> deltas) {
+        write(isPostgres() ? UPSERT_POSTGRESQL : UPSERT_MERGE, deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .toList());
+    }
+
+    public void delete(ChurchStatistic.Key key) {
+        delete(List.of(key));
+    }
+
+    public void delete(Collection<ChurchStatistic.Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<ChurchStatistic.Key> sorted = keys.stream().sorted(UPDATE_ORDER).toList();
+        lockShared(sorted);
+        jdbcTemplate.batchUpdate(DELETE, sorted, sorted.size(), (ps, key) -> {
+            ps.setLong(1, key.getChurchId());
+            ps.setString(2, key.getMetric().name());
+            ps.setString(3, key.getBucket());
+        });
+    }
+
+    /**
+     * 카운터를 주어진 값으로 설정 (보정). 호출 전에 lockForReconcile로 교회를 잠가야 합니다.
+     */
+    public void setTotals(Map<ChurchStatistic.Key, Long> totals) {
+        write(isPostgres() ? SET_POSTGRESQL : SET_MERGE, List.copyOf(totals.entrySet()));
+    }
+
+    /**
+     * 보정용 교회 단위 배타 잠금 (트랜잭션 끝까지 유지)
+     *
+     * 이 교회의 카운터를 증감 중인 트랜잭션이 끝날 때까지 기다리고, 이후의 증감은 보정이 끝날 때까지 기다리게 합니다.
+     */
+    public void lockForReconcile(Long churchId) {
+        if (isPostgres()) {
+            jdbcTemplate.query(LOCK_EXCLUSIVE_POSTGRESQL, rs -> {}, LOCK_NAMESPACE, Long.hashCode(churchId));
+        } else {
+            jdbcTemplate.query(LOCK_CHURCH_ROW, rs -> {}, churchId);
+        }
+    }
+
+    /**
+     * 삭제된 교회의 카운터 정리
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update(
+                "DELETE FROM church_statistics WHERE church_id NOT IN (SELECT id FROM churches)");
+    }
+
+    private void write(String sql, List<Map.Entry<ChurchStatistic.Key, Long>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<ChurchStatistic.Key, Long>> sorted = entries.stream()
+                .sorted(Map.Entry.comparingByKey(UPDATE_ORDER))
+                .toList();
+        lockShared(sorted.stream().map(Map.Entry::getKey).toList());
+        jdbcTemplate.batchUpdate(sql, sorted, sorted.size(), (ps, entry) -> {
+            ChurchStatistic.Key key = entry.getKey();
+            ps.setLong(1, key.getChurchId());
+            ps.setString(2, key.getMetric().name());
+            ps.setString(3, key.getBucket());
+            ps.setLong(4, entry.getValue());
+        });
+    }
+
+    /**
+     * 증감/삭제용 교회 단위 공유 잠금 (정렬된 키 기준, 교회 ID 순서로 한 번씩)
+     *
+     * 보정 트랜잭션이 이미 배타 잠금을 잡고 있으면 재진입으로 바로 통과합니다.
+     */
+    private void lockShared(List<ChurchStatistic.Key> sortedKeys) {
+        sortedKeys.stream().map(ChurchStatistic.Key::getChurchId).distinct().forEach(churchId -> {
+            if (isPostgres()) {
+                jdbcTemplate.query(LOCK_SHARED_POSTGRESQL, rs -> {}, LOCK_NAMESPACE, Long.hashCode(churchId));
+            } else {
+                jdbcTemplate.query(LOCK_CHURCH_ROW, rs -> {}, churchId);
+            }
+        });
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -2,9 +2,47 @@ package com.twothree.backend.repository;
 
 import com.twothree.backend.entity.ContentDepartment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ContentDepartmentRepository extends JpaRepository<ContentDepartment, Long> {
     List<ContentDepartment> findByContentId(Long contentId);
     List<ContentDepartment> findByDepartmentId(Long departmentId);
-} 
\ No newline at end of file
+
+    @Query("SELECT cd.content.id AS contentId, cd.department.id AS departmentId FROM ContentDepartment cd")
+    List<ContentDepartmentLink> findAllLinks();
+
+    @Query("SELECT cd.content.id AS contentId, cd.department.id AS departmentId FROM ContentDepartment cd " +
+           "WHERE cd.content.id IN :contentIds")
+    List<ContentDepartmentLink> findLinksByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+    @Query("SELECT DISTINCT cd.content.id FROM ContentDepartment cd WHERE cd.department.id IN :departmentIds")
+    List<Long> findContentIdsByDepartmentIdIn(@Param("departmentIds") Collection<Long> departmentIds);
+
+    @Query("SELECT cd.department.id FROM ContentDepartment cd WHERE cd.content.id = :contentId")
+    List<Long> findDepartmentIdsByContentId(@Param("contentId") Long contentId);
+
+    /**
+     * 게시물의 공개범위 매핑 중 지정한 부서만 한 문장으로 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ContentDepartment cd WHERE cd.content.id = :contentId AND cd.department.id IN :departmentIds")
+    int deleteByContentIdAndDepartmentIdIn(@Param("contentId") Long contentId,
+                                           @Param("departmentIds") Collection<Long> departmentIds);
+
+    @Modifying
+    @Query("DELETE FROM ContentDepartment cd WHERE cd.content.id = :contentId")
+    int deleteAllByContentId(@Param("contentId") Long contentId);
+
+    /**
+     * content_id / department_id 쌍만 조회하는 프로젝션
+     */
+    interface ContentDepartmentLink {
+        Long getContentId();
+        Long getDepartmentId();
+    }
+}
@@ -1,8 +1,71 @@
 package com.twothree.backend.repository;
 
 import com.twothree.backend.entity.Content;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content> {
-} 
\ No newline at end of file
+
+    // 부서 공개 피드 - 첫 페이지 (createdAt DESC, id DESC)
+    @Query("SELECT c FROM Content c WHERE EXISTS (" +
+           "SELECT cd.id FROM ContentDepartment cd WHERE cd.content = c AND cd.department.id IN :departmentIds) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Content> findFeed(@Param("departmentIds") Collection<Long> departmentIds, Pageable pageable);
+
+    // 부서 공개 피드 - 커서 (createdAt, id) 이후 페이지
+    @Query("SELECT c FROM Content c WHERE EXISTS (" +
+           "SELECT cd.id FROM ContentDepartment cd WHERE cd.content = c AND cd.department.id IN :departmentIds) " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Content> findFeedAfter(@Param("departmentIds") Collection<Long> departmentIds,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    // 검색 인덱스 적재용 (id 오름차순 키셋)
+    @Query("SELECT c.id AS id, c.church.id AS churchId, c.author.id AS authorId, c.createdAt AS createdAt, " +
+           "c.title AS title, c.body AS body " +
+           "FROM Content c WHERE c.id > :lastId ORDER BY c.id")
+    List<ContentSearchRow> findSearchRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 다른 인스턴스의 변경을 검색 인덱스에 반영할 때 한 건만 다시 읽음
+    @Query("SELECT c.id AS id, c.church.id AS churchId, c.author.id AS authorId, c.createdAt AS createdAt, " +
+           "c.title AS title, c.body AS body " +
+           "FROM Content c WHERE c.id = :id")
+    Optional<ContentSearchRow> findSearchRowById(@Param("id") Long id);
+
+    /**
+     * 내보내기용 ID 키셋 청크 (작성자 함께 조회)
+     */
+    @EntityGraph(attributePaths = "author")
+    List<Content> findByChurchIdAndIdGreaterThanOrderByIdAsc(Long churchId, Long id, Pageable pageable);
+
+    // 통계 보정용 월별 건수
+    @Query("SELECT YEAR(c.createdAt) AS createdYear, MONTH(c.createdAt) AS createdMonth, COUNT(c) AS total " +
+           "FROM Content c WHERE c.church.id = :churchId GROUP BY YEAR(c.createdAt), MONTH(c.createdAt)")
+    List<MonthCountRow> countByMonth(@Param("churchId") Long churchId);
+
+    interface MonthCountRow {
+        Integer getCreatedYear();
+        Integer getCreatedMonth();
+        Long getTotal();
+    }
+
+    interface ContentSearchRow {
+        Long getId();
+        Long getChurchId();
+        Long getAuthorId();
+        LocalDateTime getCreatedAt();
+        String getTitle();
+        String getBody();
+    }
+}
@@ -3,6 +3,7 @@ package com.twothree.backend.repository;
 import com.twothree.backend.entity.Department;
 import com.twothree.backend.enums.DepartmentStatus;
 import com.twothree.backend.enums.DepartmentCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,11 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     
     List<Department> findByChurchId(Long churchId);
     
+    /**
+     * 내보내기용 ID 키셋 청크
+     */
+    List<Department> findByChurchIdAndIdGreaterThanOrderByIdAsc(Long churchId, Long id, Pageable pageable);
+    
     List<Department> findByChurchIdAndStatus(Long churchId, DepartmentStatus status);
     
     List<Department> findByCategoryAndChurchId(DepartmentCategory category, Long churchId);
@@ -28,4 +34,33 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> searchByKeywordAndChurchId(@Param("keyword") String keyword, @Param("churchId") Long churchId);
     
     boolean existsByNameAndChurchId(String name, Long churchId);
+    
+    /**
+     * 일괄 등록 시 부서명 → ID 매핑용 (교회당 한 번 조회)
+     */
+    @Query("SELECT d.id AS id, d.name AS name FROM Department d WHERE d.church.id = :churchId")
+    List<DepartmentNameRow> findNameRowsByChurchId(@Param("churchId") Long churchId);
+    
+    // ========== 통계 보정용 집계 (교회별 GROUP BY) ==========
+    
+    @Query("SELECT d.category AS groupKey, COUNT(d) AS total FROM Department d WHERE d.church.id = :churchId GROUP BY d.category")
+    List<GroupCountRow> countByCategory(@Param("churchId") Long churchId);
+    
+    /**
+     * 대시보드 부서 목록 (엔티티 대신 필요한 컬럼만)
+     */
+    @Query("SELECT d.id AS id, d.name AS name, d.category AS category FROM Department d " +
+           "WHERE d.church.id = :churchId ORDER BY d.name")
+    List<DepartmentSummaryRow> findSummaryRowsByChurchId(@Param("churchId") Long churchId);
+    
+    interface DepartmentSummaryRow {
+        Long getId();
+        String getName();
+        DepartmentCategory getCategory();
+    }
+    
+    interface DepartmentNameRow {
+        Long getId();
+        String getName();
+    }
 } 
\ No newline at end of file
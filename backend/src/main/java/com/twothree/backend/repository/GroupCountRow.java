@@ -0,0 +1,9 @@
+package com.twothree.backend.repository;
+
+/**
+ * GROUP BY 집계 결과 한 행 (그룹 키 + 건수)
+ */
+public interface GroupCountRow {
+    Object getGroupKey();
+    Long getTotal();
+}
@@ -2,9 +2,19 @@ package com.twothree.backend.repository;
 
 import com.twothree.backend.entity.MemberDepartment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface MemberDepartmentRepository extends JpaRepository<MemberDepartment, Long> {
     List<MemberDepartment> findByMemberId(Long memberId);
     List<MemberDepartment> findByDepartmentId(Long departmentId);
-} 
\ No newline at end of file
+
+    @Query("SELECT md.department.id FROM MemberDepartment md WHERE md.member.id = :memberId")
+    List<Long> findDepartmentIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT DISTINCT md.department.id FROM MemberDepartment md WHERE md.member.id IN :memberIds")
+    List<Long> findDepartmentIdsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
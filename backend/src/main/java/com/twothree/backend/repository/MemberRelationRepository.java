@@ -2,9 +2,15 @@ package com.twothree.backend.repository;
 
 import com.twothree.backend.entity.MemberRelation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface MemberRelationRepository extends JpaRepository<MemberRelation, Long> {
     List<MemberRelation> findByParentId(Long parentId);
     List<MemberRelation> findByChildId(Long childId);
-} 
\ No newline at end of file
+
+    @Query("SELECT r.child.id FROM MemberRelation r WHERE r.parent.id = :parentId")
+    List<Long> findChildIdsByParentId(@Param("parentId") Long parentId);
+}
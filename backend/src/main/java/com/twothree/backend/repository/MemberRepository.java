@@ -5,6 +5,7 @@ import com.twothree.backend.enums.MemberStatus;
 import com.twothree.backend.enums.MemberRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,10 +28,19 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     
     List<Member> findByDepartmentId(Long departmentId);
     
+    @Query("SELECT m.id FROM Member m WHERE m.department.id = :departmentId")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+    
     List<Member> findByChurchIdAndDepartmentId(Long churchId, Long departmentId);
     
     List<Member> findByChurchIdAndRole(Long churchId, MemberRole role);
     
+    /**
+     * 내보내기용 ID 키셋 청크 (부서 함께 조회)
+     */
+    @EntityGraph(attributePaths = "department")
+    List<Member> findByChurchIdAndIdGreaterThanOrderByIdAsc(Long churchId, Long id, Pageable pageable);
+    
     Optional<Member> findByEmail(String email);
     
     Optional<Member> findByEmailAndChurchId(String email, Long churchId);
@@ -37,6 +48,25 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.church.id = :churchId AND (m.name LIKE %:keyword% OR m.email LIKE %:keyword% OR m.phone LIKE %:keyword%)")
     List<Member> searchByKeywordAndChurchId(@Param("keyword") String keyword, @Param("churchId") Long churchId);
     
+    @Query("SELECT m FROM Member m WHERE m.church.id = :churchId AND (m.name LIKE :keyword% OR m.email LIKE :keyword% OR m.phone LIKE :keyword%) ORDER BY m.name, m.id")
+    List<Member> searchByPrefixAndChurchId(@Param("keyword") String keyword, @Param("churchId") Long churchId, Pageable pageable);
+    
+    /**
+     * 자동완성 인덱스 적재용 (ID 순 배치)
+     */
+    @Query("SELECT m.id AS id, m.church.id AS churchId, m.name AS name, m.email AS email, m.phone AS phone, " +
+           "m.status AS status, m.role AS role, d.id AS departmentId, d.name AS departmentName " +
+           "FROM Member m LEFT JOIN m.department d WHERE m.id > :lastId ORDER BY m.id")
+    List<MemberTypeaheadRow> findTypeaheadRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    /**
+     * 다른 인스턴스의 멤버 변경을 자동완성 인덱스에 반영할 때 한 건만 다시 읽음
+     */
+    @Query("SELECT m.id AS id, m.church.id AS churchId, m.name AS name, m.email AS email, m.phone AS phone, " +
+           "m.status AS status, m.role AS role, d.id AS departmentId, d.name AS departmentName " +
+           "FROM Member m LEFT JOIN m.department d WHERE m.id = :id")
+    Optional<MemberTypeaheadRow> findTypeaheadRowById(@Param("id") Long id);
+    
     @Query("SELECT m FROM Member m WHERE m.church.id = :churchId AND m.birthDate BETWEEN :startDate AND :endDate")
     List<Member> findByBirthDateBetweenAndChurchId(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("churchId") Long churchId);
     
@@ -45,7 +75,40 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     
     boolean existsByEmail(String email);
     
+    /**
+     * 일괄 등록 시 청크 단위 이메일 중복 검사 (한 번의 IN 조회)
+     */
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     boolean existsByEmailAndChurchId(String email, Long churchId);
     
+    // ========== 통계 보정용 집계 (교회별 GROUP BY) ==========
+    
+    @Query("SELECT m.status AS groupKey, COUNT(m) AS total FROM Member m WHERE m.church.id = :churchId GROUP BY m.status")
+    List<GroupCountRow> countByStatus(@Param("churchId") Long churchId);
+    
+    @Query("SELECT m.role AS groupKey, COUNT(m) AS total FROM Member m WHERE m.church.id = :churchId GROUP BY m.role")
+    List<GroupCountRow> countByRole(@Param("churchId") Long churchId);
+    
+    @Query("SELECT m.gender AS groupKey, COUNT(m) AS total FROM Member m WHERE m.church.id = :churchId GROUP BY m.gender")
+    List<GroupCountRow> countByGender(@Param("churchId") Long churchId);
+    
+    @Query("SELECT m.department.id AS groupKey, COUNT(m) AS total FROM Member m " +
+           "WHERE m.church.id = :churchId AND m.department IS NOT NULL GROUP BY m.department.id")
+    List<GroupCountRow> countByDepartment(@Param("churchId") Long churchId);
+    
     long deleteByStatusAndUpdatedAtBefore(MemberStatus status, LocalDateTime cutoffDate);
+    
+    interface MemberTypeaheadRow {
+        Long getId();
+        Long getChurchId();
+        String getName();
+        String getEmail();
+        String getPhone();
+        MemberStatus getStatus();
+        MemberRole getRole();
+        Long getDepartmentId();
+        String getDepartmentName();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.twothree.backend.scheduler;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
+import com.twothree.backend.repository.ChurchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 교회 통계 롤업 보정
+ *
+ * 쓰기 경로를 거치지 않은 변경(가져오기, 일괄 삭제, 롤업 도입 이전 데이터)을 원본에서 다시 계산해 맞춥니다.
+ * 교회마다 별도 트랜잭션으로 처리해 한 교회의 잠금이 전체 작업 동안 유지되지 않도록 합니다.
+ * 모든 인스턴스에 스케줄이 걸리지만 Redis 잠금(SET NX PX)으로 보정 주기마다 한 인스턴스만 실행합니다.
+ * 잠금은 해제하지 않고 주기만큼 유지해, 다른 인스턴스가 같은 주기 안에 다시 실행하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChurchStatisticsReconciler {
+
+    private static final String LOCK_KEY = "statistics-reconcile:lock";
+
+    private final ChurchRepository churchRepository;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Value("${application.statistics.reconcile-interval:3600000}")
+    private long reconcileInterval;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcileAll();
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.statistics.reconcile-interval:3600000}",
+        fixedDelayString = "${application.statistics.reconcile-interval:3600000}"
+    )
+    public void reconcileAll() {
+        if (!tryLock()) {
+            log.debug("교회 통계 보정 건너뜀 - 다른 인스턴스가 이번 주기에 실행함");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int churches = 0;
+        int failed = 0;
+        for (Long churchId : churchRepository.findAllIds()) {
+            try {
+                churchStatisticsDomainService.reconcile(churchId);
+                churches++;
+            } catch (RuntimeException e) {
+                // 한 교회 실패로 나머지 보정이 멈추지 않도록 다음 주기에 다시 시도
+                failed++;
+                log.warn("교회 통계 보정 실패 - churchId: {}, error: {}", churchId, e.getMessage());
+            }
+        }
+        int orphans = churchStatisticsDomainService.deleteOrphans();
+        log.info("교회 통계 보정 완료 - 교회: {}개, 실패: {}개, 삭제된 고아 카운터: {}개, {}ms",
+                churches, failed, orphans, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 이번 주기의 실행 잠금. Redis 오류 시에는 그대로 실행하도록 true 반환
+     * (보정은 교회 단위 DB 잠금으로 직렬화되므로 여러 인스턴스가 함께 실행해도 결과는 같고 부하만 늘어남)
+     */
+    private boolean tryLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    LOCK_KEY, cacheInvalidationPublisher.getInstanceId(), Duration.ofMillis(reconcileInterval));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (RuntimeException e) {
+            log.warn("교회 통계 보정 잠금 실패 - error: {}", e.getMessage());
+            return true;
+        }
+    }
+}
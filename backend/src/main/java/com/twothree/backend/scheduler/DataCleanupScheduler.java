@@ -4,6 +4,7 @@ import com.twothree.backend.repository.ChurchRepository;
 import com.twothree.backend.repository.MemberRepository;
 import com.twothree.backend.enums.ChurchStatus;
 import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.service.CacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,6 +21,7 @@ public class DataCleanupScheduler {
 
     private final ChurchRepository churchRepository;
     private final MemberRepository memberRepository;
+    private final CacheInvalidator cacheInvalidator;
 
     // 매일 새벽 2시에 실행
     @Scheduled(cron = "0 0 2 * * ?")
@@ -38,6 +40,11 @@ public class DataCleanupScheduler {
         long deletedMembers = memberRepository.deleteByStatusAndUpdatedAtBefore(MemberStatus.INACTIVE, cutoffDate);
         log.info("삭제된 비활성 멤버: {}개", deletedMembers);
         
+        // 일괄 삭제는 멤버 이벤트를 발행하지 않으므로 자동완성 인덱스를 커밋 후 다시 구성
+        if (deletedChurches > 0 || deletedMembers > 0) {
+            cacheInvalidator.evictMemberTypeahead();
+        }
+        
         log.info("✅ 데이터 정리 작업 완료");
     }
 
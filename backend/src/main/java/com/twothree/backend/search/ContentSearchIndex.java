@@ -0,0 +1,370 @@
+package com.twothree.backend.search;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.cache.LocalInvalidationListener;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.event.ContentEvent;
+import com.twothree.backend.repository.ContentRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 전문 검색용 메모리 역색인 (바이그램 + BM25)
+ *
+ * 제목/본문의 LIKE '%kw%' 순차 스캔을 대체합니다. 모든 질의 바이그램을 포함한 게시물만 후보로 삼고
+ * BM25로 순위를 매기며, 제목 일치에는 가중치를 줍니다. 교회/작성자/작성일 조건은 인덱스 안에서 걸러
+ * 전체 일치 건수를 그대로 돌려줍니다. 쓰기 반영/재구성 방식은
+ * {@link com.twothree.backend.domain.ContentVisibilityIndex}와 동일합니다. 게시물 변경은 커밋 이후 로컬에 반영하고
+ * 캐시 무효화 채널로 알려 다른 인스턴스가 해당 게시물만 다시 읽어 색인하며, 주기적인 재구성은 메시지 유실 대비입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentSearchIndex implements LocalInvalidationListener {
+
+    public static final String NAME = "contentSearch";
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final ContentRepository contentRepository;
+    private final CacheInvalidationPublisher publisher;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<Consumer<Segment>> pendingDuringRebuild = new ArrayList<>();
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready = false;
+    private boolean rebuilding = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== 검색 ==========
+
+    /**
+     * 인덱스로 검색할 수 있는 키워드인지 (바이그램만 색인하므로 한 글자 단어가 있으면 불가)
+     */
+    public boolean supports(String keyword) {
+        List<String> words = NGramTokenizer.words(keyword);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= NGramTokenizer.GRAM);
+    }
+
+    /**
+     * 키워드와 조건에 모두 일치하는 게시물을 관련도 순으로 빠짐없이 반환합니다.
+     * 호출 측이 다른 기준으로 다시 정렬할 수 있도록 일치가 없어도 수정 가능한 목록을 돌려줍니다.
+     */
+    public List<Hit> search(String keyword, Filter filter) {
+        Set<String> terms = NGramTokenizer.queryTokens(keyword);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Segment current = segment;
+        List<Map<Long, Integer>> postingLists = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Integer> postings = current.postings.get(term);
+            if (postings == null || postings.isEmpty()) {
+                return new ArrayList<>();
+            }
+            postingLists.add(postings);
+        }
+        // 가장 짧은 포스팅 목록부터 교집합
+        postingLists.sort(Comparator.comparingInt(Map::size));
+
+        int docCount = current.documents.size();
+        double avgLength = docCount == 0 ? 1.0 : (double) current.totalLength.get() / docCount;
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long contentId : postingLists.get(0).keySet()) {
+            Document document = current.documents.get(contentId);
+            if (document == null || !filter.matches(contentId, document)) {
+                continue;
+            }
+            double score = 0;
+            boolean matchesAll = true;
+            for (Map<Long, Integer> postings : postingLists) {
+                Integer tf = postings.get(contentId);
+                if (tf == null) {
+                    matchesAll = false;
+                    break;
+                }
+                double idf = Math.log(1 + (docCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                score += idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * document.length / avgLength));
+            }
+            if (matchesAll) {
+                hits.add(new Hit(contentId, score, document.createdAt));
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed().thenComparing(Hit::getContentId, Comparator.reverseOrder()));
+        return hits;
+    }
+
+    /**
+     * 검색어 주변 본문 일부를 &lt;em&gt; 태그로 강조한 스니펫 (본문에 없으면 제목 기준)
+     */
+    public String highlight(String title, String body, String keyword) {
+        List<String> words = NGramTokenizer.words(keyword);
+        if (words.isEmpty()) {
+            return null;
+        }
+        Pattern pattern = Pattern.compile(
+                words.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+        String source = body != null ? body : "";
+        Matcher matcher = pattern.matcher(source);
+        if (!matcher.find()) {
+            source = title != null ? title : "";
+            matcher = pattern.matcher(source);
+            if (!matcher.find()) {
+                return null;
+            }
+        }
+
+        int start = Math.max(0, matcher.start() - SNIPPET_RADIUS);
+        int end = Math.min(source.length(), matcher.end() + SNIPPET_RADIUS);
+        // 본문은 이스케이프하고 강조 태그만 HTML로 남김
+        String window = source.substring(start, end);
+        Matcher windowMatcher = pattern.matcher(window);
+        StringBuilder snippet = new StringBuilder(start > 0 ? "…" : "");
+        int last = 0;
+        while (windowMatcher.find()) {
+            snippet.append(HtmlUtils.htmlEscape(window.substring(last, windowMatcher.start())))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(windowMatcher.group()))
+                    .append("</em>");
+            last = windowMatcher.end();
+        }
+        snippet.append(HtmlUtils.htmlEscape(window.substring(last)));
+        if (end < source.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    // ========== 증분 반영 ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChanged(ContentEvent event) {
+        Content content = event.getContent();
+        Long contentId = content.getId();
+        if (event instanceof ContentEvent.ContentDeleted) {
+            apply(s -> s.remove(contentId));
+        } else {
+            Long churchId = content.getChurch().getId();
+            Long authorId = content.getAuthor().getId();
+            LocalDateTime createdAt = content.getCreatedAt();
+            String title = content.getTitle();
+            String body = content.getBody();
+            apply(s -> s.put(contentId, churchId, authorId, createdAt, title, body));
+        }
+        publisher.publishEvict(NAME, contentId.toString());
+    }
+
+    // ========== 다른 인스턴스 변경 반영 ==========
+
+    @Override
+    public String getInvalidationName() {
+        return NAME;
+    }
+
+    /**
+     * 커밋된 게시물을 다시 읽어 색인 (없으면 삭제된 것으로 보고 제거)
+     */
+    @Override
+    public void evictLocal(String key) {
+        Long contentId = Long.valueOf(key);
+        contentRepository.findSearchRowById(contentId).ifPresentOrElse(
+                row -> apply(s -> s.put(row.getId(), row.getChurchId(), row.getAuthorId(), row.getCreatedAt(),
+                        row.getTitle(), row.getBody())),
+                () -> apply(s -> s.remove(contentId)));
+    }
+
+    @Override
+    public void clearLocal() {
+        rebuild();
+    }
+
+    private void apply(Consumer<Segment> change) {
+        writeLock.lock();
+        try {
+            change.accept(segment);
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ========== 전체 재구성 ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.content.search-index.rebuild-interval:3600000}",
+        fixedDelayString = "${application.content.search-index.rebuild-interval:3600000}"
+    )
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            Segment fresh = new Segment();
+            long lastId = 0L;
+            List<ContentRepository.ContentSearchRow> rows;
+            do {
+                rows = contentRepository.findSearchRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (ContentRepository.ContentSearchRow row : rows) {
+                    fresh.put(row.getId(), row.getChurchId(), row.getAuthorId(), row.getCreatedAt(),
+                            row.getTitle(), row.getBody());
+                    lastId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                segment = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+                writeLock.unlock();
+            }
+            log.info("게시물 검색 인덱스 재구성 완료 - 문서: {}개, 토큰: {}개",
+                    fresh.documents.size(), fresh.postings.size());
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                writeLock.unlock();
+            }
+            log.error("게시물 검색 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long contentId;
+        private final double score;
+        private final LocalDateTime createdAt;
+    }
+
+    /**
+     * 검색 조건 (null인 항목은 조건 없음)
+     *
+     * @param contentIds 허용할 게시물 ID (부서 공개범위 등 인덱스 밖 조건을 미리 풀어 전달)
+     */
+    @Builder
+    public record Filter(Long churchId, Long authorId, LocalDateTime from, LocalDateTime to, Set<Long> contentIds) {
+
+        private boolean matches(Long contentId, Document document) {
+            return (churchId == null || churchId.equals(document.churchId))
+                    && (authorId == null || authorId.equals(document.authorId))
+                    && (from == null || (document.createdAt != null && !document.createdAt.isBefore(from)))
+                    && (to == null || (document.createdAt != null && !document.createdAt.isAfter(to)))
+                    && (contentIds == null || contentIds.contains(contentId));
+        }
+    }
+
+    private static final class Document {
+        private final Long churchId;
+        private final Long authorId;
+        private final LocalDateTime createdAt;
+        private final int length;
+        private final Set<String> terms;
+
+        private Document(Long churchId, Long authorId, LocalDateTime createdAt, int length, Set<String> terms) {
+            this.churchId = churchId;
+            this.authorId = authorId;
+            this.createdAt = createdAt;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * 토큰 → (게시물 → 가중 빈도) 포스팅과 문서 메타데이터
+     */
+    private static final class Segment {
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final AtomicLong totalLength = new AtomicLong();
+
+        void put(Long contentId, Long churchId, Long authorId, LocalDateTime createdAt, String title, String body) {
+            remove(contentId);
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            List<String> titleTokens = NGramTokenizer.tokenize(title);
+            List<String> bodyTokens = NGramTokenizer.tokenize(body);
+            titleTokens.forEach(t -> frequencies.merge(t, TITLE_BOOST, Integer::sum));
+            bodyTokens.forEach(t -> frequencies.merge(t, 1, Integer::sum));
+
+            int length = titleTokens.size() + bodyTokens.size();
+            frequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, k -> new ConcurrentHashMap<>()).put(contentId, tf));
+            documents.put(contentId, new Document(churchId, authorId, createdAt, length, Set.copyOf(frequencies.keySet())));
+            totalLength.addAndGet(length);
+        }
+
+        void remove(Long contentId) {
+            Document previous = documents.remove(contentId);
+            if (previous == null) {
+                return;
+            }
+            totalLength.addAndGet(-previous.length);
+            for (String term : previous.terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(contentId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term, termPostings);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.twothree.backend.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 유틸리티
+ *
+ * 입력 중인 글자("기" → "김" → "김ㅊ" → "김치")도 접두어로 일치시키기 위해 음절을 호환 자모열로 풀어 씁니다.
+ * 겹모음/겹받침도 낱자로 나누므로 "과"를 입력하는 중의 "고"가 "과"의 접두어가 됩니다.
+ */
+public final class HangulJamo {
+    
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+    
+    private static final String[] CHO = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    
+    private HangulJamo() {
+    }
+    
+    /**
+     * 소문자화 + 공백 제거 후 음절을 자모열로 분해 ("김 철수" → "ㄱㅣㅁㅊㅓㄹㅅㅜ")
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        // NFKC는 호환 자모(ㄱ)를 첫가끝 자모로 바꿔 초성 입력이 어긋나므로 NFC만 적용
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                  .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                  .append(JONG[index % JONG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * 초성만 추출 ("김철수" → "ㄱㅊㅅ"), 한글 음절이 없으면 빈 문자열
+     */
+    public static String chosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,398 @@
+package com.twothree.backend.search;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.cache.LocalInvalidationListener;
+import com.twothree.backend.dto.MemberDto;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.event.MemberEvent;
+import com.twothree.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 교회별 멤버 자동완성 인덱스 (정렬 접두어 맵)
+ *
+ * 이름은 자모 단위로 분해해 입력 중인 글자도 일치시키고, 초성("ㄱㅊㅅ")과 이름 중간부터의 입력("철수")도 지원합니다.
+ * 이메일과 전화번호 숫자(뒷자리 포함)는 별도 키로 둡니다. 결과는 인덱스에 보관한 요약 정보로 바로 만들어
+ * DB를 거치지 않습니다. 쓰기 반영/재구성 방식은 {@link ContentSearchIndex}와 동일합니다.
+ * 멤버 변경은 커밋 이후 로컬에 반영하고 캐시 무효화 채널로 알려 다른 인스턴스가 해당 멤버만 다시 읽게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberTypeaheadIndex implements LocalInvalidationListener {
+    
+    public static final String NAME = "memberTypeahead";
+    
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MIN_PHONE_SUFFIX = 4;
+    
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<Consumer<Segment>> pendingDuringRebuild = new ArrayList<>();
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready = false;
+    private boolean rebuilding = false;
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // ========== 검색 ==========
+    
+    /**
+     * 키워드로 시작하는 멤버를 최대 limit명 반환합니다.
+     * 이름 앞부분 일치 → 이름 중간 일치 → 이메일/전화번호 일치 순으로 채웁니다.
+     */
+    public List<MemberDto> search(Long churchId, String keyword, int limit) {
+        Segment current = segment;
+        ChurchKeys keys = current.churches.get(churchId);
+        if (keys == null || keyword == null || keyword.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        
+        Set<Long> ids = new LinkedHashSet<>();
+        String digits = phoneQuery(keyword);
+        if (digits != null) {
+            collect(keys.contacts, digits, ids, limit);
+        } else {
+            String prefix = HangulJamo.decompose(keyword);
+            collect(keys.names, prefix, ids, limit);
+            collect(keys.nameSuffixes, prefix, ids, limit);
+            collect(keys.contacts, prefix, ids, limit);
+        }
+        
+        List<MemberDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Summary summary = current.members.get(id);
+            if (summary != null) {
+                result.add(summary.toDto());
+            }
+        }
+        return result;
+    }
+    
+    private static void collect(NavigableMap<String, Set<Long>> keys, String prefix, Set<Long> ids, int limit) {
+        if (prefix.isEmpty() || ids.size() >= limit) {
+            return;
+        }
+        for (Set<Long> matched : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long id : matched) {
+                ids.add(id);
+                if (ids.size() >= limit) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 숫자/하이픈/공백으로만 된 키워드는 전화번호 검색으로 봅니다.
+     */
+    private static String phoneQuery(String keyword) {
+        String trimmed = keyword.trim();
+        if (!trimmed.matches("[0-9\\-\\s]+")) {
+            return null;
+        }
+        String digits = trimmed.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+    
+    // ========== 증분 반영 ==========
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberEvent event) {
+        Member member = event.getMember();
+        Long memberId = member.getId();
+        if (event instanceof MemberEvent.MemberDeleted) {
+            apply(s -> s.remove(memberId));
+        } else {
+            Department department = member.getDepartment();
+            Long departmentId = department != null ? department.getId() : null;
+            // 프록시가 초기화되지 않았으면 이름은 다음 재구성 때 채움
+            String departmentName = department != null && Hibernate.isInitialized(department) ? department.getName() : null;
+            Summary summary = new Summary(memberId, member.getChurch().getId(), member.getName(), member.getEmail(),
+                    member.getPhone(), member.getStatus(), member.getRole(), departmentId, departmentName);
+            apply(s -> s.put(summary));
+        }
+        invalidationPublisher.publishEvict(NAME, memberId.toString());
+    }
+    
+    /**
+     * 엔티티 이벤트를 거치지 않은 일괄 삭제 후 모든 인스턴스에서 재구성
+     */
+    public void rebuildEverywhere() {
+        rebuild();
+        invalidationPublisher.publishClear(NAME);
+    }
+    
+    @Override
+    public String getInvalidationName() {
+        return NAME;
+    }
+    
+    /**
+     * 커밋된 멤버를 다시 읽어 반영 (없으면 삭제된 것으로 보고 제거)
+     */
+    @Override
+    public void evictLocal(String key) {
+        Long memberId = Long.valueOf(key);
+        memberRepository.findTypeaheadRowById(memberId).ifPresentOrElse(
+                row -> apply(s -> s.put(Summary.of(row))),
+                () -> apply(s -> s.remove(memberId)));
+    }
+    
+    @Override
+    public void clearLocal() {
+        rebuild();
+    }
+    
+    private void apply(Consumer<Segment> change) {
+        writeLock.lock();
+        try {
+            change.accept(segment);
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    // ========== 전체 재구성 ==========
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    @Scheduled(
+        initialDelayString = "${application.member.typeahead-index.rebuild-interval:1800000}",
+        fixedDelayString = "${application.member.typeahead-index.rebuild-interval:1800000}"
+    )
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+        
+        try {
+            Segment fresh = new Segment();
+            long lastId = 0L;
+            List<MemberRepository.MemberTypeaheadRow> rows;
+            do {
+                rows = memberRepository.findTypeaheadRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (MemberRepository.MemberTypeaheadRow row : rows) {
+                    fresh.put(Summary.of(row));
+                    lastId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+            
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                segment = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+                writeLock.unlock();
+            }
+            log.info("멤버 자동완성 인덱스 재구성 완료 - 멤버: {}명, 교회: {}개",
+                    fresh.members.size(), fresh.churches.size());
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                writeLock.unlock();
+            }
+            log.error("멤버 자동완성 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 검색 결과로 돌려줄 멤버 요약과 인덱스 키
+     */
+    private static final class Summary {
+        private final Long id;
+        private final Long churchId;
+        private final String name;
+        private final String email;
+        private final String phone;
+        private final MemberStatus status;
+        private final MemberRole role;
+        private final Long departmentId;
+        private final String departmentName;
+        
+        private Summary(Long id, Long churchId, String name, String email, String phone,
+                        MemberStatus status, MemberRole role, Long departmentId, String departmentName) {
+            this.id = id;
+            this.churchId = churchId;
+            this.name = name;
+            this.email = email;
+            this.phone = phone;
+            this.status = status;
+            this.role = role;
+            this.departmentId = departmentId;
+            this.departmentName = departmentName;
+        }
+        
+        static Summary of(MemberRepository.MemberTypeaheadRow row) {
+            return new Summary(row.getId(), row.getChurchId(), row.getName(), row.getEmail(), row.getPhone(),
+                    row.getStatus(), row.getRole(), row.getDepartmentId(), row.getDepartmentName());
+        }
+        
+        MemberDto toDto() {
+            return MemberDto.builder()
+                    .id(id)
+                    .name(name)
+                    .email(email)
+                    .phone(phone)
+                    .status(status)
+                    .role(role)
+                    .churchId(churchId)
+                    .departmentId(departmentId)
+                    .departmentName(departmentName)
+                    .build();
+        }
+        
+        /**
+         * 이름 전체 (자모열 + 초성)
+         */
+        Set<String> nameKeys() {
+            Set<String> keys = new LinkedHashSet<>();
+            String compact = compactName();
+            addIfPresent(keys, HangulJamo.decompose(compact));
+            addIfPresent(keys, HangulJamo.chosung(compact));
+            return keys;
+        }
+        
+        /**
+         * 이름 두 번째 글자부터의 접미어 (성을 빼고 입력하는 경우)
+         */
+        Set<String> nameSuffixKeys() {
+            Set<String> keys = new LinkedHashSet<>();
+            String compact = compactName();
+            for (int i = 1; i < compact.length(); i++) {
+                String suffix = compact.substring(i);
+                addIfPresent(keys, HangulJamo.decompose(suffix));
+                addIfPresent(keys, HangulJamo.chosung(suffix));
+            }
+            return keys;
+        }
+        
+        /**
+         * 이메일, 전화번호 숫자 전체와 뒷자리 접미어
+         */
+        Set<String> contactKeys() {
+            Set<String> keys = new LinkedHashSet<>();
+            addIfPresent(keys, HangulJamo.decompose(email));
+            if (phone != null) {
+                String digits = phone.replaceAll("[^0-9]", "");
+                addIfPresent(keys, digits);
+                for (int i = 1; digits.length() - i >= MIN_PHONE_SUFFIX; i++) {
+                    keys.add(digits.substring(i));
+                }
+            }
+            return keys;
+        }
+        
+        private String compactName() {
+            return name == null ? "" : name.replaceAll("\\s+", "");
+        }
+        
+        private static void addIfPresent(Set<String> keys, String key) {
+            if (key != null && !key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+    }
+    
+    /**
+     * 한 교회의 키 → 멤버 ID 정렬 맵
+     */
+    private static final class ChurchKeys {
+        private final ConcurrentSkipListMap<String, Set<Long>> names = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Set<Long>> nameSuffixes = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Set<Long>> contacts = new ConcurrentSkipListMap<>();
+        
+        void add(Summary summary) {
+            summary.nameKeys().forEach(k -> link(names, k, summary.id));
+            summary.nameSuffixKeys().forEach(k -> link(nameSuffixes, k, summary.id));
+            summary.contactKeys().forEach(k -> link(contacts, k, summary.id));
+        }
+        
+        void remove(Summary summary) {
+            summary.nameKeys().forEach(k -> unlink(names, k, summary.id));
+            summary.nameSuffixKeys().forEach(k -> unlink(nameSuffixes, k, summary.id));
+            summary.contactKeys().forEach(k -> unlink(contacts, k, summary.id));
+        }
+        
+        private static void link(ConcurrentSkipListMap<String, Set<Long>> map, String key, Long id) {
+            map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        
+        private static void unlink(ConcurrentSkipListMap<String, Set<Long>> map, String key, Long id) {
+            Set<Long> ids = map.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    map.remove(key, ids);
+                }
+            }
+        }
+    }
+    
+    private static final class Segment {
+        private final Map<Long, ChurchKeys> churches = new ConcurrentHashMap<>();
+        private final Map<Long, Summary> members = new ConcurrentHashMap<>();
+        
+        void put(Summary summary) {
+            remove(summary.id);
+            if (summary.churchId == null) {
+                return;
+            }
+            members.put(summary.id, summary);
+            churches.computeIfAbsent(summary.churchId, k -> new ChurchKeys()).add(summary);
+        }
+        
+        void remove(Long memberId) {
+            Summary previous = members.remove(memberId);
+            if (previous != null) {
+                ChurchKeys keys = churches.get(previous.churchId);
+                if (keys != null) {
+                    keys.remove(previous);
+                }
+            }
+        }
+    }
+}
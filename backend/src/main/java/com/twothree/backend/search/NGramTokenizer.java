@@ -0,0 +1,79 @@
+package com.twothree.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 친화 바이그램 토크나이저
+ *
+ * 형태소 분석 없이 글자/숫자 연속 구간을 2-gram으로 분해합니다. 조사가 붙은 어절("예배를", "예배가")도
+ * 같은 바이그램("예배")을 공유하므로 LIKE 검색과 비슷한 부분 일치를 제공합니다.
+ */
+public final class NGramTokenizer {
+    
+    public static final int GRAM = 2;
+    
+    private NGramTokenizer() {
+    }
+    
+    /**
+     * 문서용 토큰 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String run : runs(text)) {
+            if (run.length() < GRAM) {
+                tokens.add(run);
+                continue;
+            }
+            for (int i = 0; i + GRAM <= run.length(); i++) {
+                tokens.add(run.substring(i, i + GRAM));
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 질의용 토큰 (중복 제거, 순서 유지)
+     */
+    public static Set<String> queryTokens(String keyword) {
+        return new LinkedHashSet<>(tokenize(keyword));
+    }
+    
+    /**
+     * 검색어를 공백 기준 단어로 분리 (하이라이트용)
+     */
+    public static List<String> words(String keyword) {
+        return runs(keyword);
+    }
+    
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+    
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = normalize(text);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            runs.add(current.toString());
+        }
+        return runs;
+    }
+}
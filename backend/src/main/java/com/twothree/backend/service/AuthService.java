@@ -3,6 +3,7 @@ package com.twothree.backend.service;
 import com.twothree.backend.dto.UserDto;
 import com.twothree.backend.entity.User;
 import com.twothree.backend.domain.service.UserRegistrationService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,6 +18,7 @@ public class AuthService {
     private final JwtService jwtService;
     private final UserService userService;
     private final UserRegistrationService userRegistrationService;
+    private final TokenVersionStore tokenVersionStore;
     
     public UserDto.SignInResponse signIn(UserDto.SignInRequest request) {
         Authentication authentication = authenticationManager.authenticate(
@@ -50,4 +52,15 @@ public class AuthService {
                 .user(userInfo)
                 .build();
     }
+    
+    /**
+     * 로그아웃: 토큰 버전을 올려 이 사용자에게 발급된 토큰을 모두 폐기 (유효하지 않은 토큰은 무시)
+     */
+    public void signOut(String token) {
+        try {
+            tokenVersionStore.revoke(jwtService.extractUsername(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료/위조된 토큰은 폐기할 필요 없음
+        }
+    }
 } 
\ No newline at end of file
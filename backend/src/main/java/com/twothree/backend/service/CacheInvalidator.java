@@ -0,0 +1,130 @@
+package com.twothree.backend.service;
+
+import com.twothree.backend.cache.UserDetailsCache;
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.search.MemberTypeaheadIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * 교회/부서/멤버 캐시의 키 규칙과 키 단위 무효화 (+ 사용자 인증 주체 캐시)
+ *
+ * 조회 메서드의 @Cacheable 키와 같은 규칙으로 필요한 키만 지웁니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 지워서, 커밋 전 다른 요청이 옛 값을 다시 적재하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+    
+    public static final String ALL_KEY = "all";
+    
+    private final CacheManager cacheManager;
+    private final UserDetailsCache userDetailsCache;
+    private final MemberTypeaheadIndex memberTypeaheadIndex;
+    
+    public static String churchKey(Long churchId) {
+        return "church:" + churchId;
+    }
+    
+    public static String activeChurchKey(Long churchId) {
+        return "church:" + churchId + ":active";
+    }
+    
+    /**
+     * 교회 단건 + 전체 목록 (+ 교회에 딸린 부서/멤버 목록)
+     */
+    public void evictChurch(Long churchId) {
+        evict(CacheConfig.CHURCHES, churchId);
+        evict(CacheConfig.CHURCHES, ALL_KEY);
+        evict(CacheConfig.DEPARTMENTS, churchKey(churchId));
+        evict(CacheConfig.DEPARTMENTS, activeChurchKey(churchId));
+        evict(CacheConfig.MEMBERS, churchKey(churchId));
+    }
+    
+    /**
+     * 교회 전체 목록 (교회가 새로 추가된 경우)
+     */
+    public void evictChurchList() {
+        evict(CacheConfig.CHURCHES, ALL_KEY);
+    }
+    
+    /**
+     * 부서 단건 + 소속 교회의 부서 목록
+     */
+    public void evictDepartment(Long departmentId, Long churchId) {
+        if (departmentId != null) {
+            evict(CacheConfig.DEPARTMENTS, departmentId);
+        }
+        evict(CacheConfig.DEPARTMENTS, churchKey(churchId));
+        evict(CacheConfig.DEPARTMENTS, activeChurchKey(churchId));
+    }
+    
+    /**
+     * 멤버 단건 + 소속 교회의 멤버 목록
+     */
+    public void evictMember(Long memberId, Long churchId) {
+        if (memberId != null) {
+            evict(CacheConfig.MEMBERS, memberId);
+        }
+        evict(CacheConfig.MEMBERS, churchKey(churchId));
+    }
+    
+    /**
+     * 부서명이 바뀐 경우 등 멤버 DTO에 포함된 정보가 바뀌었을 때
+     */
+    public void evictMembers(Collection<Long> memberIds, Long churchId) {
+        memberIds.forEach(id -> evict(CacheConfig.MEMBERS, id));
+        evict(CacheConfig.MEMBERS, churchKey(churchId));
+    }
+    
+    /**
+     * 사용자 인증 주체 (정보/권한 변경, 삭제 시)
+     */
+    public void evictUser(String username) {
+        afterCommit(() -> userDetailsCache.evict(username));
+    }
+    
+    /**
+     * 멤버 자동완성 인덱스 전체 (일괄 삭제처럼 멤버 이벤트가 발행되지 않는 변경 후)
+     */
+    public void evictMemberTypeahead() {
+        afterCommit(memberTypeaheadIndex::rebuildEverywhere);
+    }
+    
+    private void evict(String cacheName, Object key) {
+        afterCommit(() -> evictNow(cacheName, key));
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private void evictNow(String cacheName, Object key) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 쓰기 요청은 성공시키고 TTL 만료에 맡김
+            log.warn("캐시 무효화 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
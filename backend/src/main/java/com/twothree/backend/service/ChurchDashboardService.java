@@ -0,0 +1,185 @@
+package com.twothree.backend.service;
+
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
+import com.twothree.backend.dto.ChurchDashboardDto;
+import com.twothree.backend.entity.ChurchStatistic;
+import com.twothree.backend.enums.DepartmentCategory;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.enums.StatisticMetric;
+import com.twothree.backend.exception.ChurchException;
+import com.twothree.backend.repository.ChurchRepository;
+import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.repository.DepartmentRepository.DepartmentSummaryRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 교회 대시보드 집계
+ *
+ * 상태/역할/성별/부서/카테고리/월별 건수를 통계 롤업(church_statistics)에서 읽으므로 멤버 수와 무관하게
+ * 카운터 행 수만큼만 읽습니다. 카운터 조회와 부서 이름 조회는 전용 풀에서 동시에 실행하며,
+ * 각 조회를 읽기 전용 트랜잭션(TransactionTemplate)으로 감싸 읽기 복제본으로 보냅니다.
+ * 시간 초과 시 남은 작업은 취소하고, 트랜잭션 타임아웃으로 실행 중인 쿼리도 같은 시간에 끊깁니다.
+ * 아직 한 번도 계산되지 않은 교회(새로 등록된 교회)는 첫 조회 시 원본에서 계산해 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChurchDashboardService {
+
+    private final ChurchRepository churchRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${application.dashboard.max-concurrent-queries:4}")
+    private int maxConcurrentQueries;
+
+    @Value("${application.dashboard.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${application.dashboard.timeout:5s}")
+    private Duration timeout;
+
+    private ThreadPoolTaskExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initExecutor() {
+        // 동시 실행 수를 제한해 대시보드 새로고침이 커넥션 풀을 다 차지하지 않도록 함
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(maxConcurrentQueries);
+        executor.setMaxPoolSize(maxConcurrentQueries);
+        executor.setQueueCapacity(queueCapacity);
+        // 대기열이 차면 요청 스레드가 직접 실행 (거절 대신 자연스러운 배압)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // 쿼리 타임아웃으로 적용되어 요청이 포기한 쿼리가 DB에서 계속 돌지 않도록 함
+        readOnlyTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    public ChurchDashboardDto getDashboard(Long churchId) {
+        if (churchId == null || !churchRepository.existsById(churchId)) {
+            throw ChurchException.notFound(churchId);
+        }
+
+        Future<List<ChurchStatistic>> statistics = executor.submit(() -> statisticsOf(churchId));
+        Future<List<DepartmentSummaryRow>> departments =
+                executor.submit(readOnly(() -> departmentRepository.findSummaryRowsByChurchId(churchId)));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<ChurchStatistic> statisticRows;
+        List<DepartmentSummaryRow> departmentRows;
+        try {
+            statisticRows = statistics.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            departmentRows = departments.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failed(churchId, e, statistics, departments);
+        } catch (ExecutionException e) {
+            throw failed(churchId, e.getCause(), statistics, departments);
+        } catch (TimeoutException | CancellationException e) {
+            log.warn("대시보드 집계 시간 초과 - churchId: {}, timeout: {}", churchId, timeout);
+            throw failed(churchId, e, statistics, departments);
+        }
+
+        Map<StatisticMetric, Map<String, Long>> counts = new EnumMap<>(StatisticMetric.class);
+        for (ChurchStatistic statistic : statisticRows) {
+            // 보정 전 증감이 먼저 반영된 경우 음수가 될 수 있음 (다음 보정에서 맞춰짐)
+            counts.computeIfAbsent(statistic.getMetric(), metric -> new HashMap<>())
+                    .put(statistic.getBucket(), Math.max(0, statistic.getTotal()));
+        }
+
+        Map<String, Long> byDepartment = counts.getOrDefault(StatisticMetric.DEPARTMENT_MEMBERS, Map.of());
+        List<ChurchDashboardDto.DepartmentCount> departmentCounts = departmentRows.stream()
+                .map(row -> ChurchDashboardDto.DepartmentCount.builder()
+                        .departmentId(row.getId())
+                        .name(row.getName())
+                        .category(row.getCategory())
+                        .memberCount(byDepartment.getOrDefault(row.getId().toString(), 0L))
+                        .build())
+                .toList();
+
+        Map<MemberStatus, Long> membersByStatus = toEnumMap(MemberStatus.class, counts.get(StatisticMetric.MEMBER_STATUS));
+        long memberCount = membersByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long assigned = departmentCounts.stream().mapToLong(ChurchDashboardDto.DepartmentCount::getMemberCount).sum();
+
+        return ChurchDashboardDto.builder()
+                .churchId(churchId)
+                .memberCount(memberCount)
+                .unassignedMemberCount(Math.max(0, memberCount - assigned))
+                .departmentCount(departmentCounts.size())
+                .membersByStatus(membersByStatus)
+                .membersByRole(toEnumMap(MemberRole.class, counts.get(StatisticMetric.MEMBER_ROLE)))
+                .membersByGender(toEnumMap(Gender.class, counts.get(StatisticMetric.MEMBER_GENDER)))
+                .departmentsByCategory(toEnumMap(DepartmentCategory.class, counts.get(StatisticMetric.DEPARTMENT_CATEGORY)))
+                .membersByDepartment(departmentCounts)
+                .contentsByMonth(new TreeMap<>(counts.getOrDefault(StatisticMetric.CONTENT_MONTH, Map.of())))
+                .build();
+    }
+
+    private List<ChurchStatistic> statisticsOf(Long churchId) {
+        List<ChurchStatistic> statistics = readOnlyTransaction.execute(
+                status -> churchStatisticsDomainService.findByChurchId(churchId));
+        // 첫 계산은 카운터를 쓰므로 주 DB의 쓰기 트랜잭션에서 실행
+        return statistics.isEmpty() ? churchStatisticsDomainService.reconcile(churchId) : statistics;
+    }
+
+    private <T> Callable<T> readOnly(Supplier<T> query) {
+        return () -> readOnlyTransaction.execute(status -> query.get());
+    }
+
+    /**
+     * 남은 조회를 취소(대기 중이면 실행하지 않고, 실행 중이면 인터럽트)하고 예외로 변환
+     */
+    private static ChurchException failed(Long churchId, Throwable cause, Future<?>... pending) {
+        for (Future<?> future : pending) {
+            future.cancel(true);
+        }
+        return ChurchException.dashboardFailed(churchId, cause);
+    }
+
+    /**
+     * 모든 값을 0으로 채운 뒤 카운터를 덮어씀 (클라이언트가 키 유무를 따지지 않도록)
+     */
+    private static <E extends Enum<E>> Map<E, Long> toEnumMap(Class<E> type, Map<String, Long> buckets) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, buckets != null ? buckets.getOrDefault(value.name(), 0L) : 0L);
+        }
+        return counts;
+    }
+}
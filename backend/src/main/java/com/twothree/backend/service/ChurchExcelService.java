@@ -1,53 +1,79 @@
 package com.twothree.backend.service;
 
 import com.twothree.backend.entity.Church;
+import com.twothree.backend.repository.ChurchRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Service
+@RequiredArgsConstructor
 public class ChurchExcelService {
 
-    public ByteArrayOutputStream generateChurchExcel(List<Church> churches) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Churches");
+    // 메모리에 유지할 행 수 (나머지는 임시 파일로 내보냄)
+    private static final int ROW_WINDOW = 100;
 
-        // Create header row
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"ID", "Name", "Address", "Phone", "Email", "Website", "Pastor Name", "Pastor Phone", "Pastor Email", "Status"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-        }
+    private static final String[] HEADERS = {"ID", "Name", "Address", "Phone", "Email", "Website", "Pastor Name", "Pastor Phone", "Pastor Email", "Status"};
+    // autoSizeColumn 대신 쓰는 고정 열 너비 (문자 수)
+    private static final int[] COLUMN_WIDTHS = {8, 24, 40, 16, 28, 28, 16, 16, 28, 10};
 
-        // Populate data rows
-        int rowNum = 1;
-        for (Church church : churches) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(church.getId());
-            row.createCell(1).setCellValue(church.getName());
-            row.createCell(2).setCellValue(church.getAddress());
-            row.createCell(3).setCellValue(church.getPhone());
-            row.createCell(4).setCellValue(church.getEmail());
-            row.createCell(5).setCellValue(church.getWebsite());
-            row.createCell(6).setCellValue(church.getPastorName());
-            row.createCell(7).setCellValue(church.getPastorPhone());
-            row.createCell(8).setCellValue(church.getPastorEmail());
-            row.createCell(9).setCellValue(church.getStatus().name());
-        }
+    private final ChurchRepository churchRepository;
+    private final EntityManager entityManager;
 
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
+    /**
+     * 교회 목록을 DB 커서로 읽으면서 응답 스트림에 바로 기록합니다.
+     * 힙에는 SXSSF 윈도우만큼의 행과 현재 읽고 있는 엔티티만 남습니다.
+     */
+    @Transactional(readOnly = true)
+    public void writeChurchExcel(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (Stream<Church> churches = churchRepository.streamAllByOrderByIdAsc()) {
+            SXSSFSheet sheet = workbook.createSheet("Churches");
+            for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+            }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-        return outputStream;
+            // Create header row
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(HEADERS[i]);
+            }
+
+            // Populate data rows
+            int rowNum = 1;
+            Iterator<Church> iterator = churches.iterator();
+            while (iterator.hasNext()) {
+                Church church = iterator.next();
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(church.getId());
+                row.createCell(1).setCellValue(church.getName());
+                row.createCell(2).setCellValue(church.getAddress());
+                row.createCell(3).setCellValue(church.getPhone());
+                row.createCell(4).setCellValue(church.getEmail());
+                row.createCell(5).setCellValue(church.getWebsite());
+                row.createCell(6).setCellValue(church.getPastorName());
+                row.createCell(7).setCellValue(church.getPastorPhone());
+                row.createCell(8).setCellValue(church.getPastorEmail());
+                row.createCell(9).setCellValue(church.getStatus() != null ? church.getStatus().name() : null);
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 바로 분리
+                entityManager.detach(church);
+            }
+
+            workbook.write(outputStream);
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
     }
 }
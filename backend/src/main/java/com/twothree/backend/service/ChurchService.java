@@ -1,11 +1,14 @@
 package com.twothree.backend.service;
 
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.config.ReplicaRoutingDataSource;
 import com.twothree.backend.domain.ChurchDomainService;
 import com.twothree.backend.dto.ChurchDto;
 import com.twothree.backend.entity.Church;
 import com.twothree.backend.enums.ChurchStatus;
 import com.twothree.backend.mapper.ChurchMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,25 +22,33 @@ public class ChurchService {
     
     private final ChurchDomainService churchDomainService;
     private final ChurchMapper churchMapper;
+    private final CacheInvalidator cacheInvalidator;
     
+    @Cacheable(value = CacheConfig.CHURCHES, key = "'all'", sync = true)
+    @Transactional(readOnly = true)
     public List<ChurchDto> getAllChurches() {
-        return churchMapper.toDtoList(churchDomainService.findAll());
+        return ReplicaRoutingDataSource.onPrimary(() -> churchMapper.toDtoList(churchDomainService.findAll()));
     }
     
+    @Cacheable(value = CacheConfig.CHURCHES, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public Optional<ChurchDto> getChurchById(Long id) {
-        return churchDomainService.findById(id)
-                .map(churchMapper::toDto);
+        return ReplicaRoutingDataSource.onPrimary(() -> churchDomainService.findById(id)
+                .map(churchMapper::toDto));
     }
     
+    @Transactional(readOnly = true)
     public Optional<ChurchDto> getChurchByName(String name) {
         return churchDomainService.findByName(name)
                 .map(churchMapper::toDto);
     }
     
+    @Transactional(readOnly = true)
     public List<ChurchDto> getChurchesByStatus(ChurchStatus status) {
         return churchMapper.toDtoList(churchDomainService.findByStatus(status));
     }
     
+    @Transactional(readOnly = true)
     public List<ChurchDto> searchChurches(String keyword) {
         return churchMapper.toDtoList(churchDomainService.searchByKeyword(keyword));
     }
@@ -45,6 +56,7 @@ public class ChurchService {
     public ChurchDto createChurch(ChurchDto churchDto) {
         Church church = churchMapper.toEntity(churchDto);
         Church savedChurch = churchDomainService.createChurch(church);
+        cacheInvalidator.evictChurch(savedChurch.getId());
         return churchMapper.toDto(savedChurch);
     }
     
@@ -53,6 +65,7 @@ public class ChurchService {
         
         try {
             Church updatedChurch = churchDomainService.updateChurch(id, churchData);
+            cacheInvalidator.evictChurch(id);
             return Optional.of(churchMapper.toDto(updatedChurch));
         } catch (RuntimeException e) {
             return Optional.empty();
@@ -60,13 +73,19 @@ public class ChurchService {
     }
     
     public boolean deleteChurch(Long id) {
-        return churchDomainService.deleteChurch(id);
+        boolean deleted = churchDomainService.deleteChurch(id);
+        if (deleted) {
+            cacheInvalidator.evictChurch(id);
+        }
+        return deleted;
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByName(String name) {
         return churchDomainService.existsByName(name);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return churchDomainService.existsByEmail(email);
     }
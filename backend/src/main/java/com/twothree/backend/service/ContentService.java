@@ -1,43 +1,70 @@
 package com.twothree.backend.service;
 
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
+import com.twothree.backend.domain.ContentVisibilityIndex;
+import com.twothree.backend.dto.ContentCursor;
 import com.twothree.backend.dto.ContentDto;
+import com.twothree.backend.dto.CursorPage;
 import com.twothree.backend.entity.Content;
 import com.twothree.backend.entity.ContentDepartment;
 import com.twothree.backend.entity.Department;
 import com.twothree.backend.entity.Member;
 import com.twothree.backend.entity.Church;
+import com.twothree.backend.event.ContentEvent;
+import com.twothree.backend.exception.ContentException;
+import com.twothree.backend.mapper.ContentDtoAssembler;
+import com.twothree.backend.search.ContentSearchIndex;
 import com.twothree.backend.repository.ContentDepartmentRepository;
 import com.twothree.backend.repository.ContentRepository;
 import com.twothree.backend.repository.DepartmentRepository;
 import com.twothree.backend.repository.MemberRepository;
 import com.twothree.backend.repository.ChurchRepository;
-import com.twothree.backend.repository.MemberDepartmentRepository;
-import com.twothree.backend.repository.MemberRelationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.twothree.backend.dto.ContentSearchRequest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ContentService {
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String SORT_BY_RELEVANCE = "relevance";
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+    // DB 검색에서 정렬할 수 있는 필드 (그 외 값과 relevance는 작성일 순)
+    private static final Set<String> DB_SORT_FIELDS = Set.of("id", "title", SORT_BY_CREATED_AT, "updatedAt");
+
     private final ContentRepository contentRepository;
     private final ContentDepartmentRepository contentDepartmentRepository;
     private final DepartmentRepository departmentRepository;
     private final MemberRepository memberRepository;
     private final ChurchRepository churchRepository;
-    private final MemberDepartmentRepository memberDepartmentRepository;
-    private final MemberRelationRepository memberRelationRepository;
+    private final ContentVisibilityIndex contentVisibilityIndex;
+    private final ContentDtoAssembler contentDtoAssembler;
+    private final ContentSearchIndex contentSearchIndex;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ContentDto createContent(ContentDto dto) {
@@ -50,17 +77,13 @@ public class ContentService {
         content.setAuthor(author);
         content.setChurch(church);
         Content saved = contentRepository.save(content);
+        churchStatisticsDomainService.contentAdded(saved);
 
-        // 2. ContentDepartment 매핑
-        if (dto.getDepartmentIds() != null) {
-            for (Long deptId : dto.getDepartmentIds()) {
-                Department dept = departmentRepository.findById(deptId).orElseThrow();
-                ContentDepartment cd = new ContentDepartment();
-                cd.setContent(saved);
-                cd.setDepartment(dept);
-                contentDepartmentRepository.save(cd);
-            }
-        }
+        // 2. ContentDepartment 매핑 (부서 검증 1회 조회 + 배치 INSERT)
+        List<Long> departmentIds = distinctIds(dto.getDepartmentIds());
+        insertMappings(saved, departmentIds);
+
+        eventPublisher.publishEvent(new ContentEvent.ContentCreated(this, saved, departmentIds));
 
         // 3. 결과 반환
         ContentDto result = new ContentDto();
@@ -71,108 +94,242 @@ public class ContentService {
         result.setChurchId(saved.getChurch().getId());
         result.setCreatedAt(saved.getCreatedAt());
         result.setUpdatedAt(saved.getUpdatedAt());
-        result.setDepartmentIds(dto.getDepartmentIds());
+        result.setDepartmentIds(departmentIds);
         return result;
     }
 
     public ContentDto getContent(Long id) {
-        Content content = contentRepository.findById(id).orElseThrow();
-        ContentDto dto = new ContentDto();
-        dto.setId(content.getId());
-        dto.setTitle(content.getTitle());
-        dto.setBody(content.getBody());
-        dto.setAuthorId(content.getAuthor().getId());
-        dto.setChurchId(content.getChurch().getId());
-        dto.setCreatedAt(content.getCreatedAt());
-        dto.setUpdatedAt(content.getUpdatedAt());
-        // 공개범위 부서
-        List<Long> deptIds = contentDepartmentRepository.findByContentId(content.getId())
-                .stream().map(cd -> cd.getDepartment().getId()).collect(Collectors.toList());
-        dto.setDepartmentIds(deptIds);
-        return dto;
+        Content content = contentRepository.findById(id).orElseThrow(() -> ContentException.notFound(id));
+        return contentDtoAssembler.toDtoList(List.of(content)).get(0);
     }
 
     @Transactional
     public ContentDto updateContent(Long id, ContentDto dto) {
-        Content content = contentRepository.findById(id).orElseThrow();
+        Content content = contentRepository.findById(id).orElseThrow(() -> ContentException.notFound(id));
         content.setTitle(dto.getTitle());
         content.setBody(dto.getBody());
         contentRepository.save(content);
-        // 공개범위 부서 업데이트
-        contentDepartmentRepository.deleteAll(contentDepartmentRepository.findByContentId(id));
-        if (dto.getDepartmentIds() != null) {
-            for (Long deptId : dto.getDepartmentIds()) {
-                Department dept = departmentRepository.findById(deptId).orElseThrow();
-                ContentDepartment cd = new ContentDepartment();
-                cd.setContent(content);
-                cd.setDepartment(dept);
-                contentDepartmentRepository.save(cd);
-            }
+        // 공개범위 부서 업데이트: 기존 매핑과 비교해 빠진 부서는 한 문장으로 삭제, 새 부서만 배치 INSERT
+        List<Long> departmentIds = distinctIds(dto.getDepartmentIds());
+        Set<Long> existing = new HashSet<>(contentDepartmentRepository.findDepartmentIdsByContentId(id));
+        List<Long> removed = existing.stream()
+                .filter(deptId -> !departmentIds.contains(deptId))
+                .collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            contentDepartmentRepository.deleteByContentIdAndDepartmentIdIn(id, removed);
         }
+        insertMappings(content, departmentIds.stream()
+                .filter(deptId -> !existing.contains(deptId))
+                .collect(Collectors.toList()));
+        eventPublisher.publishEvent(new ContentEvent.ContentUpdated(this, content, departmentIds));
         return getContent(id);
     }
 
     @Transactional
     public void deleteContent(Long id) {
-        contentDepartmentRepository.deleteAll(contentDepartmentRepository.findByContentId(id));
-        contentRepository.deleteById(id);
+        Content content = contentRepository.findById(id)
+                .orElseThrow(() -> ContentException.notFound(id));
+        contentDepartmentRepository.deleteAllByContentId(id);
+        contentRepository.delete(content);
+        churchStatisticsDomainService.contentRemoved(content);
+        eventPublisher.publishEvent(new ContentEvent.ContentDeleted(this, content));
+    }
+
+    /**
+     * 부서 존재/소속을 IN 조회 한 번으로 검증한 뒤 매핑을 배치로 INSERT
+     */
+    private void insertMappings(Content content, List<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return;
+        }
+        List<Department> departments = departmentRepository.findAllById(departmentIds);
+        if (departments.size() != departmentIds.size()) {
+            Set<Long> found = departments.stream().map(Department::getId).collect(Collectors.toSet());
+            throw ContentException.departmentNotFound(departmentIds.stream()
+                    .filter(deptId -> !found.contains(deptId))
+                    .collect(Collectors.toList()));
+        }
+
+        Long churchId = content.getChurch().getId();
+        List<ContentDepartment> mappings = new ArrayList<>(departments.size());
+        for (Department department : departments) {
+            if (!department.getChurch().getId().equals(churchId)) {
+                throw ContentException.departmentMismatch(department.getId());
+            }
+            ContentDepartment cd = new ContentDepartment();
+            cd.setContent(content);
+            cd.setDepartment(department);
+            mappings.add(cd);
+        }
+        contentDepartmentRepository.saveAll(mappings);
+    }
+
+    private static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
     }
 
     // 멤버별(공개범위 포함) 게시물 조회
     public List<ContentDto> getContentsForMember(Long memberId) {
-        // 1. 멤버가 속한 부서
-        List<Long> myDeptIds = memberDepartmentRepository.findByMemberId(memberId)
-                .stream().map(md -> md.getDepartment().getId()).collect(Collectors.toList());
-        // 2. 자녀가 속한 부서
-        List<Long> childIds = memberRelationRepository.findByParentId(memberId)
-                .stream().map(rel -> rel.getChild().getId()).collect(Collectors.toList());
-        List<Long> childDeptIds = childIds.stream()
-                .flatMap(cid -> memberDepartmentRepository.findByMemberId(cid).stream())
-                .map(md -> md.getDepartment().getId()).collect(Collectors.toList());
-        // 3. 전체 접근 가능한 부서
-        List<Long> allDeptIds = myDeptIds;
-        for (Long id : childDeptIds) if (!allDeptIds.contains(id)) allDeptIds.add(id);
-        // 4. 해당 부서에 공개된 게시물
-        List<Long> contentIds = contentDepartmentRepository.findAll().stream()
-                .filter(cd -> allDeptIds.contains(cd.getDepartment().getId()))
-                .map(cd -> cd.getContent().getId())
-                .distinct().collect(Collectors.toList());
-        return contentRepository.findAllById(contentIds).stream().map(this::toDto).collect(Collectors.toList());
+        return findVisibleContents(contentVisibilityIndex.getReachableDepartmentIds(memberId));
     }
 
     // 내가 속한 부서의 게시물만 조회
     public List<ContentDto> getContentsForMyDepartments(Long memberId) {
-        List<Long> myDeptIds = memberDepartmentRepository.findByMemberId(memberId)
-                .stream().map(md -> md.getDepartment().getId()).collect(Collectors.toList());
-        List<Long> contentIds = contentDepartmentRepository.findAll().stream()
-                .filter(cd -> myDeptIds.contains(cd.getDepartment().getId()))
-                .map(cd -> cd.getContent().getId())
-                .distinct().collect(Collectors.toList());
-        return contentRepository.findAllById(contentIds).stream().map(this::toDto).collect(Collectors.toList());
+        return findVisibleContents(contentVisibilityIndex.getMyDepartmentIds(memberId));
     }
 
     // 내 자녀가 속한 부서의 게시물만 조회
     public List<ContentDto> getContentsForChildrenDepartments(Long memberId) {
-        List<Long> childIds = memberRelationRepository.findByParentId(memberId)
-                .stream().map(rel -> rel.getChild().getId()).collect(Collectors.toList());
-        List<Long> childDeptIds = childIds.stream()
-                .flatMap(cid -> memberDepartmentRepository.findByMemberId(cid).stream())
-                .map(md -> md.getDepartment().getId()).collect(Collectors.toList());
-        List<Long> contentIds = contentDepartmentRepository.findAll().stream()
-                .filter(cd -> childDeptIds.contains(cd.getDepartment().getId()))
-                .map(cd -> cd.getContent().getId())
-                .distinct().collect(Collectors.toList());
-        return contentRepository.findAllById(contentIds).stream().map(this::toDto).collect(Collectors.toList());
+        return findVisibleContents(contentVisibilityIndex.getChildrenDepartmentIds(memberId));
+    }
+
+    private List<ContentDto> findVisibleContents(Collection<Long> departmentIds) {
+        List<Long> contentIds = contentVisibilityIndex.getContentIdsVisibleTo(departmentIds);
+        if (contentIds.isEmpty()) {
+            return List.of();
+        }
+        List<Content> contents = contentRepository.findAllById(contentIds).stream()
+                .sorted(Comparator.comparing(Content::getCreatedAt).thenComparing(Content::getId).reversed())
+                .collect(Collectors.toList());
+        return contentDtoAssembler.toDtoList(contents);
+    }
+
+    // ========== 키셋(커서) 피드 ==========
+
+    public CursorPage<ContentDto> getFeedForMember(Long memberId, String cursor, Integer size) {
+        return findFeed(contentVisibilityIndex.getReachableDepartmentIds(memberId), cursor, size);
+    }
+
+    public CursorPage<ContentDto> getFeedForMyDepartments(Long memberId, String cursor, Integer size) {
+        return findFeed(contentVisibilityIndex.getMyDepartmentIds(memberId), cursor, size);
+    }
+
+    public CursorPage<ContentDto> getFeedForChildrenDepartments(Long memberId, String cursor, Integer size) {
+        return findFeed(contentVisibilityIndex.getChildrenDepartmentIds(memberId), cursor, size);
+    }
+
+    private CursorPage<ContentDto> findFeed(Collection<Long> departmentIds, String cursor, Integer size) {
+        int limit = resolveCursorPageSize(size);
+        if (departmentIds.isEmpty()) {
+            return toCursorPage(List.of(), limit);
+        }
+        ContentCursor after = ContentCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Content> rows = after == null
+                ? contentRepository.findFeed(departmentIds, pageable)
+                : contentRepository.findFeedAfter(departmentIds, after.getCreatedAt(), after.getId(), pageable);
+        return toCursorPage(rows, limit);
+    }
+
+    public CursorPage<ContentDto> searchContentsByCursor(ContentSearchRequest req) {
+        int limit = resolveCursorPageSize(req.getSize());
+        ContentCursor after = ContentCursor.decode(req.getCursor());
+        Specification<Content> spec = buildSearchSpec(req);
+        if (after != null) {
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.lessThan(root.get("createdAt"), after.getCreatedAt()),
+                    cb.and(cb.equal(root.get("createdAt"), after.getCreatedAt()),
+                           cb.lessThan(root.get("id"), after.getId()))));
+        }
+        Sort keysetSort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<Content> rows = contentRepository.findBy(spec, q -> q.sortBy(keysetSort).limit(limit + 1).all());
+        return toCursorPage(rows, limit);
+    }
+
+    private CursorPage<ContentDto> toCursorPage(List<Content> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Content> page = hasNext ? rows.subList(0, limit) : rows;
+        return CursorPage.<ContentDto>builder()
+                .items(contentDtoAssembler.toDtoList(page))
+                .nextCursor(hasNext ? ContentCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private int resolveCursorPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
     }
 
     public Page<ContentDto> searchContents(ContentSearchRequest req) {
+        if (canSearchByIndex(req)) {
+            return searchContentsByIndex(req);
+        }
         Pageable pageable = PageRequest.of(
                 req.getPage() != null ? req.getPage() : 0,
                 req.getSize() != null ? req.getSize() : 20,
                 Sort.by(Sort.Direction.fromString(req.getSortDir() != null ? req.getSortDir() : "DESC"),
-                        req.getSortBy() != null ? req.getSortBy() : "createdAt")
+                        req.getSortBy() != null && DB_SORT_FIELDS.contains(req.getSortBy())
+                                ? req.getSortBy() : SORT_BY_CREATED_AT)
         );
-        Specification<Content> spec = (root, query, cb) -> {
+        Page<Content> page = contentRepository.findAll(buildSearchSpec(req), pageable);
+        return new PageImpl<>(contentDtoAssembler.toDtoList(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * 한 글자 단어가 있거나 관련도/작성일 외 정렬이면 DB LIKE 검색으로 처리합니다.
+     */
+    private boolean canSearchByIndex(ContentSearchRequest req) {
+        return hasKeyword(req)
+                && contentSearchIndex.isReady()
+                && contentSearchIndex.supports(req.getKeyword())
+                && (req.getSortBy() == null
+                        || SORT_BY_RELEVANCE.equalsIgnoreCase(req.getSortBy())
+                        || SORT_BY_CREATED_AT.equals(req.getSortBy()));
+    }
+
+    /**
+     * 전문 검색 인덱스에서 모든 조건을 걸러 일치 건수 전체를 구한 뒤 해당 페이지만 DB에서 읽습니다.
+     * sortBy를 지정하지 않거나 "relevance"이면 관련도 순으로 정렬합니다.
+     */
+    private Page<ContentDto> searchContentsByIndex(ContentSearchRequest req) {
+        int pageNumber = req.getPage() != null ? req.getPage() : 0;
+        int pageSize = req.getSize() != null ? req.getSize() : 20;
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+
+        // 부서 공개범위는 공개범위 인덱스에서 게시물 ID로 풀어 전달
+        ContentSearchIndex.Filter filter = ContentSearchIndex.Filter.builder()
+                .churchId(req.getChurchId())
+                .authorId(req.getAuthorId())
+                .from(req.getFromDate() != null ? req.getFromDate().atStartOfDay() : null)
+                .to(req.getToDate() != null ? req.getToDate().atTime(23,59,59) : null)
+                .contentIds(req.getDepartmentId() != null
+                        ? new HashSet<>(contentVisibilityIndex.getContentIdsVisibleTo(List.of(req.getDepartmentId())))
+                        : null)
+                .build();
+        List<ContentSearchIndex.Hit> hits = contentSearchIndex.search(req.getKeyword(), filter);
+        if (SORT_BY_CREATED_AT.equals(req.getSortBy())) {
+            Comparator<ContentSearchIndex.Hit> byCreatedAt = Comparator
+                    .comparing(ContentSearchIndex.Hit::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ContentSearchIndex.Hit::getContentId);
+            hits.sort("ASC".equalsIgnoreCase(req.getSortDir()) ? byCreatedAt : byCreatedAt.reversed());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageSize, hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream().map(ContentSearchIndex.Hit::getContentId).toList();
+        Map<Long, Content> byId = contentRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Content::getId, c -> c));
+        // 인덱스 반영 직후 삭제된 게시물은 건너뜀
+        List<Content> page = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+
+        List<ContentDto> dtos = contentDtoAssembler.toDtoList(page);
+        dtos.forEach(dto -> dto.setHighlight(contentSearchIndex.highlight(dto.getTitle(), dto.getBody(), req.getKeyword())));
+        return new PageImpl<>(dtos, pageable, hits.size());
+    }
+
+    private boolean hasKeyword(ContentSearchRequest req) {
+        return req.getKeyword() != null && !req.getKeyword().isBlank();
+    }
+
+    private Specification<Content> buildSearchSpec(ContentSearchRequest req) {
+        return (root, query, cb) -> {
             Predicate p = cb.conjunction();
             if (req.getKeyword() != null && !req.getKeyword().isEmpty()) {
                 Predicate title = cb.like(root.get("title"), "%" + req.getKeyword() + "%");
@@ -186,8 +343,13 @@ public class ContentService {
                 p = cb.and(p, cb.equal(root.get("church").get("id"), req.getChurchId()));
             }
             if (req.getDepartmentId() != null) {
-                Join<Content, ContentDepartment> join = root.join("id"); // 실제로는 ContentDepartmentRepository로 별도 쿼리 권장
-                p = cb.and(p, cb.equal(join.get("department").get("id"), req.getDepartmentId()));
+                // Content → ContentDepartment 연관이 없으므로 EXISTS 서브쿼리로 공개범위 필터링
+                Subquery<Long> sub = query.subquery(Long.class);
+                Root<ContentDepartment> cd = sub.from(ContentDepartment.class);
+                sub.select(cd.get("id")).where(
+                        cb.equal(cd.get("content"), root),
+                        cb.equal(cd.get("department").get("id"), req.getDepartmentId()));
+                p = cb.and(p, cb.exists(sub));
             }
             if (req.getFromDate() != null) {
                 p = cb.and(p, cb.greaterThanOrEqualTo(root.get("createdAt"), req.getFromDate().atStartOfDay()));
@@ -197,21 +359,5 @@ public class ContentService {
             }
             return p;
         };
-        return contentRepository.findAll(spec, pageable).map(this::toDto);
-    }
-
-    private ContentDto toDto(Content content) {
-        ContentDto dto = new ContentDto();
-        dto.setId(content.getId());
-        dto.setTitle(content.getTitle());
-        dto.setBody(content.getBody());
-        dto.setAuthorId(content.getAuthor().getId());
-        dto.setChurchId(content.getChurch().getId());
-        dto.setCreatedAt(content.getCreatedAt());
-        dto.setUpdatedAt(content.getUpdatedAt());
-        List<Long> deptIds = contentDepartmentRepository.findByContentId(content.getId())
-                .stream().map(cd -> cd.getDepartment().getId()).collect(Collectors.toList());
-        dto.setDepartmentIds(deptIds);
-        return dto;
     }
 } 
\ No newline at end of file
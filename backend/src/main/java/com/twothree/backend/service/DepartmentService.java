@@ -1,5 +1,8 @@
 package com.twothree.backend.service;
 
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.config.ReplicaRoutingDataSource;
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
 import com.twothree.backend.dto.DepartmentDto;
 import com.twothree.backend.entity.Church;
 import com.twothree.backend.entity.Department;
@@ -7,11 +10,14 @@ import com.twothree.backend.enums.DepartmentStatus;
 import com.twothree.backend.enums.DepartmentCategory;
 import com.twothree.backend.repository.ChurchRepository;
 import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -22,42 +28,55 @@ public class DepartmentService {
     
     private final DepartmentRepository departmentRepository;
     private final ChurchRepository churchRepository;
+    private final MemberRepository memberRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final ChurchStatisticsDomainService churchStatisticsDomainService;
     
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getAllDepartments() {
         return departmentRepository.findAll().stream()
                 .map(DepartmentDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(value = CacheConfig.DEPARTMENTS, key = "'church:' + #churchId", sync = true)
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getDepartmentsByChurchId(Long churchId) {
-        return departmentRepository.findByChurchId(churchId).stream()
+        return ReplicaRoutingDataSource.onPrimary(() -> departmentRepository.findByChurchId(churchId).stream()
                 .map(DepartmentDto::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    @Cacheable(value = CacheConfig.DEPARTMENTS, key = "'church:' + #churchId + ':active'", sync = true)
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getActiveDepartmentsByChurchId(Long churchId) {
-        return departmentRepository.findByChurchIdAndStatus(churchId, DepartmentStatus.ACTIVE).stream()
+        return ReplicaRoutingDataSource.onPrimary(() -> departmentRepository.findByChurchIdAndStatus(churchId, DepartmentStatus.ACTIVE).stream()
                 .map(DepartmentDto::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getDepartmentsByCategory(Long churchId, DepartmentCategory category) {
         return departmentRepository.findByCategoryAndChurchId(category, churchId).stream()
                 .map(DepartmentDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getActiveDepartmentsByCategory(Long churchId, DepartmentCategory category) {
         return departmentRepository.findByCategoryAndChurchIdAndStatus(category, churchId, DepartmentStatus.ACTIVE).stream()
                 .map(DepartmentDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(value = CacheConfig.DEPARTMENTS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public Optional<DepartmentDto> getDepartmentById(Long id) {
-        return departmentRepository.findById(id)
-                .map(DepartmentDto::fromEntity);
+        return ReplicaRoutingDataSource.onPrimary(() -> departmentRepository.findById(id)
+                .map(DepartmentDto::fromEntity));
     }
     
+    @Transactional(readOnly = true)
     public List<DepartmentDto> searchDepartmentsByChurchId(String keyword, Long churchId) {
         return departmentRepository.searchByKeywordAndChurchId(keyword, churchId).stream()
                 .map(DepartmentDto::fromEntity)
@@ -79,12 +98,16 @@ public class DepartmentService {
                 .build();
         
         Department savedDepartment = departmentRepository.save(department);
+        churchStatisticsDomainService.departmentAdded(savedDepartment);
+        cacheInvalidator.evictDepartment(savedDepartment.getId(), church.getId());
         return DepartmentDto.fromEntity(savedDepartment);
     }
     
     public Optional<DepartmentDto> updateDepartment(Long id, DepartmentDto departmentDto) {
         return departmentRepository.findById(id)
                 .map(department -> {
+                    boolean renamed = !Objects.equals(department.getName(), departmentDto.getName());
+                    DepartmentCategory previousCategory = department.getCategory();
                     department.setName(departmentDto.getName());
                     department.setDescription(departmentDto.getDescription());
                     department.setColor(departmentDto.getColor());
@@ -95,18 +118,37 @@ public class DepartmentService {
                         department.setStatus(departmentDto.getStatus());
                     }
                     
-                    return DepartmentDto.fromEntity(departmentRepository.save(department));
+                    Department savedDepartment = departmentRepository.save(department);
+                    Long churchId = savedDepartment.getChurch().getId();
+                    churchStatisticsDomainService.departmentChanged(churchId, previousCategory, savedDepartment.getCategory());
+                    cacheInvalidator.evictDepartment(id, churchId);
+                    if (renamed) {
+                        // 멤버 DTO에 부서명이 들어 있으므로 소속 멤버 캐시도 무효화
+                        cacheInvalidator.evictMembers(memberIdsOf(id), churchId);
+                    }
+                    return DepartmentDto.fromEntity(savedDepartment);
                 });
     }
     
     public boolean deleteDepartment(Long id) {
-        if (departmentRepository.existsById(id)) {
-            departmentRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return departmentRepository.findById(id)
+                .map(department -> {
+                    Long churchId = department.getChurch().getId();
+                    List<Long> memberIds = memberIdsOf(id);
+                    departmentRepository.delete(department);
+                    churchStatisticsDomainService.departmentRemoved(churchId, id, department.getCategory());
+                    cacheInvalidator.evictDepartment(id, churchId);
+                    cacheInvalidator.evictMembers(memberIds, churchId);
+                    return true;
+                })
+                .orElse(false);
+    }
+    
+    private List<Long> memberIdsOf(Long departmentId) {
+        return memberRepository.findIdsByDepartmentId(departmentId);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByNameAndChurchId(String name, Long churchId) {
         return departmentRepository.existsByNameAndChurchId(name, churchId);
     }
@@ -0,0 +1,226 @@
+package com.twothree.backend.service;
+
+import com.twothree.backend.batch.ImportChunkWriter;
+import com.twothree.backend.batch.ImportFileFormat;
+import com.twothree.backend.batch.ImportTarget;
+import com.twothree.backend.dto.ImportJobDto;
+import com.twothree.backend.exception.ChurchException;
+import com.twothree.backend.exception.ImportException;
+import com.twothree.backend.repository.ChurchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 업로드 파일을 저장하고 가져오기 배치 작업을 비동기로 실행/조회/재시작
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportService {
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final Map<String, Job> jobs;
+    private final ChurchRepository churchRepository;
+
+    @Value("${application.import.upload-dir:${java.io.tmpdir}/twothree-imports}")
+    private Path uploadDir;
+
+    @Value("${application.import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${application.import.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+    private TaskExecutorJobLauncher jobLauncher;
+    // 실행 중 + 대기 중인 작업 자리 (가득 차면 요청 스레드를 붙잡지 않고 바로 거절)
+    private Semaphore jobSlots;
+
+    @PostConstruct
+    void initJobLauncher() throws Exception {
+        // 요청 스레드를 붙잡지 않도록 별도 스레드에서 실행 (동시 실행 수 제한, 초과분은 대기열에서 차례를 기다림)
+        jobSlots = new Semaphore(maxConcurrentJobs + queueCapacity);
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("import-");
+        taskExecutor.setCorePoolSize(maxConcurrentJobs);
+        taskExecutor.setMaxPoolSize(maxConcurrentJobs);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setVirtualThreads(virtualThreads);
+        // 작업이 끝나면(성공/실패 무관) 자리 반환
+        taskExecutor.setTaskDecorator(task -> () -> {
+            try {
+                task.run();
+            } finally {
+                jobSlots.release();
+            }
+        });
+        taskExecutor.initialize();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(taskExecutor);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @PreDestroy
+    void shutdownJobLauncher() {
+        taskExecutor.shutdown();
+    }
+
+    /**
+     * 파일을 업로드 디렉터리에 저장한 뒤 작업을 시작하고 즉시 반환
+     */
+    public ImportJobDto startImport(ImportTarget target, MultipartFile file, Long churchId) {
+        ImportFileFormat format = ImportFileFormat.fromFileName(file.getOriginalFilename());
+        if (format == null) {
+            throw ImportException.unsupportedFormat(file.getOriginalFilename());
+        }
+        if (target.isChurchScoped()) {
+            if (churchId == null) {
+                throw ImportException.churchRequired();
+            }
+            if (!churchRepository.existsById(churchId)) {
+                throw ChurchException.notFound(churchId);
+            }
+        }
+
+        Path stored = store(target, file, format);
+        JobParametersBuilder parameters = new JobParametersBuilder()
+                .addString("file", stored.toString())
+                .addString("format", format.name())
+                .addLong("uploadedAt", System.currentTimeMillis());
+        if (target.isChurchScoped()) {
+            parameters.addLong("churchId", churchId);
+        }
+
+        JobExecution execution = run(jobs.get(target.getJobName()), parameters.toJobParameters());
+        log.info("가져오기 작업 시작 - job: {}, executionId: {}, churchId: {}, file: {} ({} bytes)",
+                target.getJobName(), execution.getId(), churchId, file.getOriginalFilename(), file.getSize());
+        return toDto(execution);
+    }
+
+    public ImportJobDto getImportStatus(Long jobExecutionId) {
+        return toDto(findExecution(jobExecutionId));
+    }
+
+    /**
+     * 실패/중단된 작업을 같은 파라미터로 다시 실행 (마지막 커밋된 청크 다음 행부터 이어서 진행)
+     */
+    public ImportJobDto restartImport(Long jobExecutionId) {
+        JobExecution previous = findExecution(jobExecutionId);
+        BatchStatus status = previous.getStatus();
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            throw ImportException.notRestartable(jobExecutionId, status.name());
+        }
+
+        Job job = jobs.get(previous.getJobInstance().getJobName());
+        JobExecution execution = run(job, previous.getJobParameters());
+        log.info("가져오기 작업 재시작 - job: {}, previousExecutionId: {}, executionId: {}",
+                job.getName(), jobExecutionId, execution.getId());
+        return toDto(execution);
+    }
+
+    // ========== 내부 처리 ==========
+
+    private JobExecution run(Job job, JobParameters parameters) {
+        if (!jobSlots.tryAcquire()) {
+            throw ImportException.busy(maxConcurrentJobs + queueCapacity);
+        }
+        try {
+            return jobLauncher.run(job, parameters);
+        } catch (JobExecutionException e) {
+            // 실행기에 넘기기 전에 실패하면 자리를 직접 반환
+            jobSlots.release();
+            throw ImportException.launchFailed(e);
+        } catch (RuntimeException e) {
+            jobSlots.release();
+            throw e;
+        }
+    }
+
+    private JobExecution findExecution(Long jobExecutionId) {
+        JobExecution execution = jobExecutionId != null ? jobExplorer.getJobExecution(jobExecutionId) : null;
+        if (execution == null || !jobs.containsKey(execution.getJobInstance().getJobName())) {
+            throw ImportException.jobNotFound(jobExecutionId);
+        }
+        return execution;
+    }
+
+    private Path store(ImportTarget target, MultipartFile file, ImportFileFormat format) {
+        try {
+            Files.createDirectories(uploadDir);
+            Path stored = Files.createTempFile(uploadDir,
+                    target.name().toLowerCase(Locale.ROOT) + "-",
+                    "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(stored);
+            return stored;
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일 저장 실패", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ImportJobDto toDto(JobExecution execution) {
+        long read = 0;
+        long inserted = 0;
+        long rejected = 0;
+        long skipped = 0;
+        List<String> rejections = new ArrayList<>();
+        for (StepExecution step : execution.getStepExecutions()) {
+            ExecutionContext context = step.getExecutionContext();
+            read += step.getReadCount();
+            skipped += step.getSkipCount();
+            inserted += context.getLong(ImportChunkWriter.INSERTED_COUNT, 0L);
+            rejected += context.getLong(ImportChunkWriter.REJECTED_COUNT, 0L);
+            if (context.containsKey(ImportChunkWriter.REJECTIONS)) {
+                rejections.addAll((List<String>) context.get(ImportChunkWriter.REJECTIONS));
+            }
+        }
+
+        return ImportJobDto.builder()
+                .jobExecutionId(execution.getId())
+                .jobName(execution.getJobInstance().getJobName())
+                .churchId(execution.getJobParameters().getLong("churchId"))
+                .status(execution.getStatus().name())
+                .readCount(read)
+                .insertedCount(inserted)
+                .rejectedCount(rejected)
+                .skippedCount(skipped)
+                .rejections(rejections)
+                .failures(execution.getAllFailureExceptions().stream().map(Throwable::getMessage).toList())
+                .startTime(execution.getStartTime())
+                .endTime(execution.getEndTime())
+                .build();
+    }
+}
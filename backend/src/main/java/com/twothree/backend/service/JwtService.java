@@ -2,10 +2,14 @@ package com.twothree.backend.service;
 
 import com.twothree.backend.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -17,8 +21,15 @@ import java.util.Map;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
     
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_VERSION = "ver";
+    
+    private final TokenVersionStore tokenVersionStore;
+    
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
     
@@ -28,6 +39,21 @@ public class JwtService {
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
     
+    @Value("${application.security.jwt.stateless:false}")
+    private boolean stateless;
+    
+    // 키/파서는 불변이고 스레드 안전하므로 한 번만 만듦
+    private Key signInKey;
+    private JwtParser jwtParser;
+    
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+    
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -37,8 +63,20 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
     
+    /**
+     * 사용자 ID/권한을 담은 액세스 토큰 (stateless 모드에서는 토큰 버전을 더해 이 클레임만으로 인증)
+     */
     public String generateToken(User user) {
-        return generateToken(new HashMap<>(), user);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        if (user.getRole() != null) {
+            claims.put(CLAIM_ROLE, user.getRole().name());
+        }
+        if (stateless) {
+            // 버전을 알 수 없으면 폐기할 수 없는 토큰이 되므로 발급하지 않음 (AuthException)
+            claims.put(CLAIM_VERSION, tokenVersionStore.issueVersion(user.getUsername()));
+        }
+        return generateToken(claims, user);
     }
     
     public String generateToken(Map<String, Object> extraClaims, User user) {
@@ -60,30 +98,25 @@ public class JwtService {
                 .compact();
     }
     
+    /**
+     * 서명/만료를 한 번의 파싱으로 검증 (만료 시 ExpiredJwtException)
+     */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        try {
+            return extractAllClaims(token).getSubject().equals(userDetails.getUsername());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
     
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 서명과 만료 시각을 검증한 클레임 (유효하지 않으면 JwtException)
+     */
+    public Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
     
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.twothree.backend.service;
 
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.config.ReplicaRoutingDataSource;
 import com.twothree.backend.domain.MemberDomainService;
 import com.twothree.backend.dto.MemberDto;
 import com.twothree.backend.entity.Church;
@@ -7,10 +9,14 @@ import com.twothree.backend.entity.Department;
 import com.twothree.backend.entity.Member;
 import com.twothree.backend.enums.MemberStatus;
 import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.exception.MemberException;
 import com.twothree.backend.repository.ChurchRepository;
 import com.twothree.backend.repository.DepartmentRepository;
+import com.twothree.backend.search.MemberTypeaheadIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,70 +34,107 @@ public class MemberService {
     private final MemberDomainService memberDomainService;
     private final ChurchRepository churchRepository;
     private final DepartmentRepository departmentRepository;
+    private final MemberTypeaheadIndex memberTypeaheadIndex;
+    private final CacheInvalidator cacheInvalidator;
     
+    private static final int DEFAULT_TYPEAHEAD_LIMIT = 10;
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+    private static final int MAX_BATCH_CREATE_SIZE = 1000;
+    
+    @Transactional(readOnly = true)
     public List<MemberDto> getAllMembers() {
         return memberDomainService.findAll().stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(value = CacheConfig.MEMBERS, key = "'church:' + #churchId")
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByChurchId(Long churchId) {
-        return memberDomainService.findByChurchId(churchId).stream()
+        return ReplicaRoutingDataSource.onPrimary(() -> memberDomainService.findByChurchId(churchId).stream()
                 .map(MemberDto::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    @Transactional(readOnly = true)
     public Page<MemberDto> getMembersByChurchId(Long churchId, Pageable pageable) {
         return memberDomainService.findByChurchId(churchId, pageable)
                 .map(MemberDto::fromEntity);
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByChurchIdAndStatus(Long churchId, MemberStatus status) {
         return memberDomainService.findByChurchIdAndStatus(churchId, status).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByDepartmentId(Long departmentId) {
         return memberDomainService.findByDepartmentId(departmentId).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByChurchIdAndDepartmentId(Long churchId, Long departmentId) {
         return memberDomainService.findByChurchIdAndDepartmentId(churchId, departmentId).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByChurchIdAndRole(Long churchId, MemberRole role) {
         return memberDomainService.findByChurchIdAndRole(churchId, role).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(value = CacheConfig.MEMBERS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<MemberDto> getMemberById(Long id) {
-        return memberDomainService.findById(id)
-                .map(MemberDto::fromEntity);
+        return ReplicaRoutingDataSource.onPrimary(() -> memberDomainService.findById(id)
+                .map(MemberDto::fromEntity));
     }
     
+    @Transactional(readOnly = true)
     public Optional<MemberDto> getMemberByEmail(String email) {
         return memberDomainService.findByEmail(email)
                 .map(MemberDto::fromEntity);
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> searchMembersByChurchId(String keyword, Long churchId) {
         return memberDomainService.searchByKeywordAndChurchId(keyword, churchId).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 이름/초성/이메일/전화번호 접두어 자동완성 (인덱스 적재 전에는 DB 접두어 검색)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberDto> typeaheadMembers(Long churchId, String keyword, Integer limit) {
+        if (churchId == null || keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_TYPEAHEAD_LIMIT : Math.min(limit, MAX_TYPEAHEAD_LIMIT);
+        if (memberTypeaheadIndex.isReady()) {
+            return memberTypeaheadIndex.search(churchId, keyword, size);
+        }
+        return memberDomainService.searchByPrefixAndChurchId(keyword.trim(), churchId, PageRequest.of(0, size)).stream()
+                .map(MemberDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+    
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByBirthDateRange(Long churchId, LocalDate startDate, LocalDate endDate) {
         return memberDomainService.findByBirthDateBetweenAndChurchId(startDate, endDate, churchId).stream()
                 .map(MemberDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<MemberDto> getMembersByMembershipDateRange(Long churchId, LocalDate startDate, LocalDate endDate) {
         return memberDomainService.findByMembershipDateBetweenAndChurchId(startDate, endDate, churchId).stream()
                 .map(MemberDto::fromEntity)
@@ -126,9 +169,46 @@ public class MemberService {
                 .build();
         
         Member savedMember = memberDomainService.createMember(member);
+        cacheInvalidator.evictMember(savedMember.getId(), church.getId());
         return MemberDto.fromEntity(savedMember);
     }
     
+    /**
+     * 멤버 일괄 생성 (검증은 배치 전체에 대해 집합 단위로 수행)
+     */
+    public List<MemberDto> createMembers(Long churchId, List<MemberDto> memberDtos) {
+        if (memberDtos.size() > MAX_BATCH_CREATE_SIZE) {
+            throw MemberException.batchTooLarge(memberDtos.size(), MAX_BATCH_CREATE_SIZE);
+        }
+        
+        List<Member> members = memberDtos.stream()
+                .map(dto -> Member.builder()
+                        .name(dto.getName())
+                        .email(dto.getEmail())
+                        .phone(dto.getPhone())
+                        .address(dto.getAddress())
+                        .birthDate(dto.getBirthDate())
+                        .gender(dto.getGender())
+                        .status(dto.getStatus())
+                        .role(dto.getRole())
+                        .profileImageUrl(dto.getProfileImageUrl())
+                        .baptismDate(dto.getBaptismDate())
+                        .membershipDate(dto.getMembershipDate())
+                        .notes(dto.getNotes())
+                        // 부서는 ID만 채우고 존재/소속 검증은 도메인 서비스에서 한 번에 처리
+                        .department(dto.getDepartmentId() != null
+                                ? Department.builder().id(dto.getDepartmentId()).build()
+                                : null)
+                        .build())
+                .collect(Collectors.toList());
+        
+        List<Member> savedMembers = memberDomainService.createMembers(churchId, members);
+        cacheInvalidator.evictMember(null, churchId);
+        return savedMembers.stream()
+                .map(MemberDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+    
     public Optional<MemberDto> updateMember(Long id, MemberDto memberDto) {
         Church church = churchRepository.findById(memberDto.getChurchId())
                 .orElseThrow(() -> new RuntimeException("Church not found"));
@@ -158,6 +238,7 @@ public class MemberService {
         
         try {
             Member updatedMember = memberDomainService.updateMember(id, memberData);
+            cacheInvalidator.evictMember(id, updatedMember.getChurch().getId());
             return Optional.of(MemberDto.fromEntity(updatedMember));
         } catch (RuntimeException e) {
             return Optional.empty();
@@ -165,13 +246,22 @@ public class MemberService {
     }
     
     public boolean deleteMember(Long id) {
-        return memberDomainService.deleteMember(id);
+        Long churchId = memberDomainService.findById(id)
+                .map(member -> member.getChurch().getId())
+                .orElse(null);
+        boolean deleted = memberDomainService.deleteMember(id);
+        if (deleted) {
+            cacheInvalidator.evictMember(id, churchId);
+        }
+        return deleted;
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return memberDomainService.existsByEmail(email);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmailAndChurchId(String email, Long churchId) {
         return memberDomainService.existsByEmailAndChurchId(email, churchId);
     }
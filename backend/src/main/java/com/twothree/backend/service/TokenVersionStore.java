@@ -0,0 +1,153 @@
+package com.twothree.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.cache.FutureLoader;
+import com.twothree.backend.cache.LocalInvalidationListener;
+import com.twothree.backend.exception.AuthException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 사용자별 토큰 버전 (JWT 폐기 목록)
+ *
+ * 토큰에는 발급 시점의 버전(ver)이 들어가고, 로그아웃/권한 변경/삭제 시 버전을 올리면 그 이전에 발급된 토큰은 모두 거부됩니다.
+ * 토큰 단위 블랙리스트 대신 사용자당 숫자 하나만 Redis에 두고(auth:token-version:{username}),
+ * 요청 경로에서는 로컬 캐시를 거쳐 읽습니다. 버전이 바뀌면 캐시 무효화 채널로 다른 인스턴스의 로컬 값을 비웁니다.
+ * 키가 없으면 현재 시각(ms)으로 초기화하므로, Redis 데이터가 유실돼도 이전에 발급/폐기된 토큰의 버전과 겹치지 않습니다.
+ * 버전은 stateless 모드에서만 쓰므로, 그 외에는 폐기 요청을 무시해 로그아웃/사용자 변경이 Redis에 의존하지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class TokenVersionStore implements LocalInvalidationListener {
+    
+    public static final String NAME = "tokenVersions";
+    private static final String KEY_PREFIX = "auth:token-version:";
+    
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher publisher;
+    private final AsyncCache<String, Long> local;
+    private final boolean stateless;
+    
+    public TokenVersionStore(StringRedisTemplate redisTemplate,
+                             CacheInvalidationPublisher publisher,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             @Value("${application.security.jwt.stateless:false}") boolean stateless,
+                             @Value("${application.security.jwt.token-version.maximum-size:10000}") long maximumSize,
+                             @Value("${application.security.jwt.token-version.local-ttl:30s}") Duration localTtl) {
+        this.redisTemplate = redisTemplate;
+        this.publisher = publisher;
+        this.stateless = stateless;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .buildAsync();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, local, NAME, "tier", "l1");
+        }
+    }
+    
+    /**
+     * 현재 토큰 버전 (Redis 장애로 알 수 없으면 null, 실패 값은 캐시하지 않음)
+     */
+    public Long currentVersion(String username) {
+        CompletableFuture<Long> cached = local.getIfPresent(username);
+        if (cached != null) {
+            return FutureLoader.join(cached);
+        }
+        // Redis 조회를 캐시 잠금 밖에서 수행 (가상 스레드 고정 방지)
+        return FutureLoader.getOrLoad(local.asMap(), username, this::readVersion);
+    }
+    
+    /**
+     * 발급할 토큰에 넣을 버전 (알 수 없으면 폐기할 수 없는 토큰이 되므로 발급 실패)
+     */
+    public long issueVersion(String username) {
+        Long version = currentVersion(username);
+        if (version == null) {
+            throw AuthException.tokenVersionUnavailable(username, null);
+        }
+        return version;
+    }
+    
+    /**
+     * 사용자의 기존 토큰을 모두 폐기 (트랜잭션 안에서 호출되면 커밋 이후에 반영)
+     *
+     * 커밋 전에 올리면 그 사이 로그인한 사용자가 새 버전에 옛 권한이 담긴 토큰을 받을 수 있습니다.
+     * Redis 장애로 버전을 올리지 못하면 AuthException(503)으로 실패합니다 (커밋 이후라면 커밋 호출 측으로 전파).
+     */
+    public void revoke(String username) {
+        if (!stateless) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(username);
+                }
+            });
+        } else {
+            bump(username);
+        }
+    }
+    
+    private void bump(String username) {
+        String key = KEY_PREFIX + username;
+        try {
+            // 키가 없으면(유실 포함) 시각 기반 값으로 만든 뒤 올려 이전 버전과 겹치지 않게 함
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(System.currentTimeMillis()));
+            Long version = redisTemplate.opsForValue().increment(key);
+            log.info("토큰 폐기 - username: {}, version: {}", username, version);
+        } catch (RuntimeException e) {
+            log.error("토큰 버전 갱신 실패 - username: {}, error: {}", username, e.getMessage());
+            throw AuthException.tokenVersionUnavailable(username, e);
+        } finally {
+            local.synchronous().invalidate(username);
+            publisher.publishEvict(NAME, username);
+        }
+    }
+    
+    private Long readVersion(String username) {
+        String key = KEY_PREFIX + username;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                redisTemplate.opsForValue().setIfAbsent(key, Long.toString(System.currentTimeMillis()));
+                value = redisTemplate.opsForValue().get(key);
+            }
+            return value != null ? Long.parseLong(value) : null;
+        } catch (RuntimeException e) {
+            log.warn("토큰 버전 조회 실패 - username: {}, error: {}", username, e.getMessage());
+            return null;
+        }
+    }
+    
+    @Override
+    public String getInvalidationName() {
+        return NAME;
+    }
+    
+    @Override
+    public void evictLocal(String username) {
+        local.synchronous().invalidate(username);
+    }
+    
+    @Override
+    public void clearLocal() {
+        local.synchronous().invalidateAll();
+    }
+}
@@ -1,6 +1,7 @@
 
 package com.twothree.backend.service;
 
+import com.twothree.backend.cache.UserDetailsCache;
 import com.twothree.backend.dto.UserDto;
 import com.twothree.backend.entity.User;
 import com.twothree.backend.repository.UserRepository;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -23,6 +25,9 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final CacheInvalidator cacheInvalidator;
+    private final TokenVersionStore tokenVersionStore;
 
     @Transactional
     public UserDto createUser(UserDto userDto, String password) {
@@ -51,27 +56,45 @@ public class UserService implements UserDetailsService {
     public Optional<UserDto> updateUser(Long id, UserDto userDto) {
         return userRepository.findById(id)
                 .map(existingUser -> {
+                    boolean roleChanged = existingUser.getRole() != userDto.getRole();
                     existingUser.setEmail(userDto.getEmail());
                     existingUser.setFullName(userDto.getFullName());
                     existingUser.setRole(userDto.getRole());
                     // Note: Username and password updates are handled separately for security reasons
-                    return UserDto.fromEntity(userRepository.save(existingUser));
+                    User saved = userRepository.save(existingUser);
+                    // 권한 변경이 다음 요청부터 반영되도록 커밋 후 캐시된 인증 주체 제거
+                    cacheInvalidator.evictUser(saved.getUsername());
+                    if (roleChanged) {
+                        // 옛 권한이 담긴 토큰 폐기
+                        tokenVersionStore.revoke(saved.getUsername());
+                    }
+                    return UserDto.fromEntity(saved);
                 });
     }
 
     @Transactional
     public boolean deleteUser(Long id) {
-        if (userRepository.existsById(id)) {
-            userRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return userRepository.findById(id)
+                .map(user -> {
+                    userRepository.delete(user);
+                    cacheInvalidator.evictUser(user.getUsername());
+                    tokenVersionStore.revoke(user.getUsername());
+                    return true;
+                })
+                .orElse(false);
     }
 
+    /**
+     * 인증 필터가 요청마다 호출하므로 니어 캐시를 거침 (없는 사용자는 캐시하지 않음)
+     *
+     * 캐시에 오래 남는 값이므로 지연된 복제본이 아니라 주 DB에서 적재합니다. 트랜잭션 밖에서 읽으면 주 DB로
+     * 라우팅되며, 쓰기 트랜잭션과 달리 같은 요청의 이후 읽기까지 주 DB로 고정하지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        return userDetailsCache.get(username, name -> userRepository.findByUsername(name)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + name)));
     }
 
     public UserDto.UserInfo getUserInfo(String username) {
@@ -0,0 +1,135 @@
+package com.twothree.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.twothree.backend.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 서명 검증을 마친 JWT 캐시 (토큰 SHA-256 해시 → 사용자명/만료 시각)
+ *
+ * 같은 토큰이 다시 오면 HMAC 검증과 클레임 파싱을 건너뜁니다. 항목은 토큰의 exp 시각에 만료되므로
+ * 만료된 토큰이 캐시 때문에 통과하는 일은 없습니다. 원문 토큰 대신 해시를 키로 써서 힙 덤프에 토큰이 남지 않습니다.
+ * 인증 주체는 여기 두지 않고 {@link com.twothree.backend.cache.UserDetailsCache}에서 사용자 단위로 캐시/무효화합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    private final Cache<String, VerifiedToken> cache;
+    
+    public VerifiedTokenCache(ObjectProvider<MeterRegistry> meterRegistry,
+                              @Value("${application.security.jwt.verified-cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified");
+        }
+    }
+    
+    /**
+     * 검증된 토큰 정보 (없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verified = cache.getIfPresent(hash(token));
+        if (verified == null || !verified.getExpiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return verified;
+    }
+    
+    public void put(String token, VerifiedToken verified) {
+        cache.put(hash(token), verified);
+    }
+    
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * 검증된 토큰의 클레임 (userId/role/version은 해당 클레임이 없는 토큰이면 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class VerifiedToken {
+        private final String username;
+        private final Instant expiresAt;
+        private final Long userId;
+        private final User.Role role;
+        private final Long version;
+        
+        public static VerifiedToken from(Claims claims) {
+            Number userId = claims.get(JwtService.CLAIM_USER_ID, Number.class);
+            String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+            Number version = claims.get(JwtService.CLAIM_VERSION, Number.class);
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant(),
+                    userId != null ? userId.longValue() : null,
+                    role != null ? User.Role.valueOf(role) : null,
+                    version != null ? version.longValue() : null);
+        }
+        
+        /**
+         * 클레임만으로 인증할 수 있는 토큰인지 (ID/권한/버전 포함)
+         */
+        public boolean isSelfContained() {
+            return userId != null && role != null && version != null;
+        }
+        
+        /**
+         * 클레임으로 만든 인증 주체 (DB 조회 없음, 이메일/이름/비밀번호는 비어 있음)
+         */
+        public User toPrincipal() {
+            return User.builder()
+                    .id(userId)
+                    .username(username)
+                    .role(role)
+                    .build();
+        }
+    }
+    
+    /**
+     * 항목 수명 = 토큰 exp까지 남은 시간
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+-- 기준 스키마 (엔티티 매핑과 일치, ddl-auto: validate로 검증)
+-- 기존 운영 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 간주합니다.
+-- (ID 시퀀스 전환은 scripts/migrate-id-sequences.sql로 먼저 적용되어 있어야 합니다)
+
+-- ID 시퀀스: INCREMENT BY는 BaseEntity.ID_ALLOCATION_SIZE와 같아야 함 (pooled-lo)
+CREATE SEQUENCE churches_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE members_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE contents_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE content_departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE member_departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE member_relations_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    full_name   VARCHAR(255),
+    role        VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE churches (
+    id            BIGINT PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL UNIQUE,
+    description   VARCHAR(500),
+    address       VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255),
+    email         VARCHAR(255),
+    website       VARCHAR(255),
+    pastor_name   VARCHAR(255),
+    pastor_phone  VARCHAR(255),
+    pastor_email  VARCHAR(255),
+    logo_url      VARCHAR(255),
+    banner_url    VARCHAR(255),
+    status        VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255)
+);
+
+CREATE TABLE departments (
+    id           BIGINT PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    description  VARCHAR(500),
+    color        VARCHAR(255),
+    icon         VARCHAR(255),
+    category     VARCHAR(100),
+    church_id    BIGINT NOT NULL REFERENCES churches (id),
+    status       VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255)
+);
+
+CREATE TABLE members (
+    id                 BIGINT PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL UNIQUE,
+    phone              VARCHAR(255),
+    address            VARCHAR(255),
+    birth_date         DATE,
+    gender             VARCHAR(255) NOT NULL,
+    status             VARCHAR(255) NOT NULL,
+    role               VARCHAR(255) NOT NULL,
+    profile_image_url  VARCHAR(255),
+    baptism_date       DATE,
+    membership_date    DATE,
+    notes              VARCHAR(1000),
+    church_id          BIGINT NOT NULL REFERENCES churches (id),
+    department_id      BIGINT REFERENCES departments (id),
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    created_by         VARCHAR(255),
+    updated_by         VARCHAR(255)
+);
+
+CREATE TABLE contents (
+    id          BIGINT PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    body        TEXT NOT NULL,
+    author_id   BIGINT NOT NULL REFERENCES members (id),
+    church_id   BIGINT NOT NULL REFERENCES churches (id),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  VARCHAR(255),
+    updated_by  VARCHAR(255)
+);
+
+CREATE TABLE content_departments (
+    id             BIGINT PRIMARY KEY,
+    content_id     BIGINT NOT NULL REFERENCES contents (id),
+    department_id  BIGINT NOT NULL REFERENCES departments (id),
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     VARCHAR(255),
+    updated_by     VARCHAR(255)
+);
+
+CREATE TABLE member_departments (
+    id             BIGINT PRIMARY KEY,
+    member_id      BIGINT NOT NULL REFERENCES members (id),
+    department_id  BIGINT NOT NULL REFERENCES departments (id),
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     VARCHAR(255),
+    updated_by     VARCHAR(255)
+);
+
+CREATE TABLE member_relations (
+    id             BIGINT PRIMARY KEY,
+    parent_id      BIGINT NOT NULL REFERENCES members (id),
+    child_id       BIGINT NOT NULL REFERENCES members (id),
+    relation_type  VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     VARCHAR(255),
+    updated_by     VARCHAR(255)
+);
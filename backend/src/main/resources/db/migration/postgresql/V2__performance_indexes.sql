@@ -0,0 +1,43 @@
+-- 교회(테넌트) 단위 조회용 인덱스
+-- 리포지토리 조회 형태에 맞춘 복합 인덱스이며, 교회 ID가 앞에 오는 인덱스가 church_id 외래 키 인덱스를 겸합니다.
+-- 운영 중 테이블 잠금을 피하려고 CONCURRENTLY로 만들므로 이 마이그레이션은 트랜잭션 없이 실행됩니다.
+
+-- members: findByChurchId(+ID 커서 페이지), findByChurchIdAndStatus, findByChurchIdAndRole
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_church_id_id ON members (church_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_church_status ON members (church_id, status);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_church_role ON members (church_id, role);
+-- members: 생일/등록일 기간 조회 (교회 + 날짜 범위)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_church_birth_date ON members (church_id, birth_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_church_membership_date ON members (church_id, membership_date);
+-- members: findByDepartmentId, findIdsByDepartmentId (ID만 읽는 경우 인덱스만으로 처리)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_department_id ON members (department_id, id);
+-- members: 비활성 멤버 정리 (status + updated_at 기준 삭제)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_status_updated_at ON members (status, updated_at);
+
+-- departments: findByChurchIdAndStatus, findByCategoryAndChurchIdAndStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_church_status_category ON departments (church_id, status, category);
+-- departments: findByCategoryAndChurchId (상태 조건 없음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_church_category ON departments (church_id, category);
+-- departments: 이름 중복 확인/조회, 가져오기용 이름 → ID 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_church_name ON departments (church_id, name) INCLUDE (id);
+
+-- content_departments: 피드 EXISTS 서브쿼리, findContentIdsByDepartmentIdIn
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_content_departments_department_content ON content_departments (department_id, content_id);
+-- content_departments: 게시물별 부서 목록/매핑 삭제
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_content_departments_content_department ON content_departments (content_id, department_id);
+
+-- member_departments: findDepartmentIdsByMemberId(In), findByDepartmentId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_departments_member_department ON member_departments (member_id, department_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_departments_department ON member_departments (department_id);
+
+-- member_relations: findChildIdsByParentId, findByChildId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_relations_parent_child ON member_relations (parent_id, child_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_relations_child ON member_relations (child_id);
+
+-- contents: 교회별 최신순 목록, ID 커서 내보내기
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contents_church_created_at ON contents (church_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contents_church_id_id ON contents (church_id, id);
+-- contents: 부서 피드 (최신순으로 읽으면서 content_departments 인덱스로 부서 조건 확인)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contents_created_at_id ON contents (created_at DESC, id DESC);
+-- contents: 작성자 외래 키 (멤버 삭제 시 참조 확인)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contents_author ON contents (author_id);
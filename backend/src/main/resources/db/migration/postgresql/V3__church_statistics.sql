@@ -0,0 +1,12 @@
+-- 교회 통계 롤업 카운터 (ChurchStatistic)
+-- 쓰기 트랜잭션에서 ON CONFLICT upsert로 증감하고, ChurchStatisticsReconciler가 주기적으로 원본에서 다시 계산합니다.
+-- 교회 삭제 후에도 남을 수 있도록 외래 키 없음 (고아 행은 보정 작업이 정리)
+-- 보정 전에는 비어 있으며, 대시보드가 처음 조회할 때 교회 단위로 계산해 채웁니다.
+
+CREATE TABLE church_statistics (
+    church_id  BIGINT      NOT NULL,
+    metric     VARCHAR(32) NOT NULL,
+    bucket     VARCHAR(64) NOT NULL,
+    total      BIGINT      NOT NULL,
+    PRIMARY KEY (church_id, metric, bucket)
+);
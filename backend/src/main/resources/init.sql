@@ -11,5 +11,5 @@ GRANT ALL PRIVILEGES ON DATABASE twothree_db TO twothree_user;
 -- CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 -- CREATE EXTENSION IF NOT EXISTS "pgcrypto";
 
--- 테이블 생성은 JPA가 자동으로 처리하므로 여기서는 생략
+-- 테이블 생성은 Flyway 마이그레이션(db/migration/postgresql)이 처리하므로 여기서는 생략
 -- 샘플 데이터는 data.sql에서 처리됨 
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.twothree.backend.cache;
+
+import com.twothree.backend.config.CacheConfig;
+import com.twothree.backend.dto.MemberDto;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactRedisSerializerTest {
+
+	private final CompactRedisSerializer serializer = new CompactRedisSerializer("com.twothree.backend.", 1024);
+
+	@Test
+	void roundTripsMemberList() {
+		List<MemberDto> members = members(50);
+
+		Object restored = serializer.deserialize(serializer.serialize(members));
+
+		assertThat(restored).isEqualTo(members);
+	}
+
+	@Test
+	void isSmallerThanJsonPayload() {
+		List<MemberDto> members = members(200);
+
+		byte[] compact = serializer.serialize(members);
+		byte[] json = CacheConfig.jsonRedisSerializer().serialize(members);
+
+		assertThat(compact.length).isLessThan(json.length / 3);
+	}
+
+	@Test
+	void acceptsRegisteredCacheValueTypes() {
+		assertThatCode(() -> new CompactRedisSerializer("com.twothree.backend.", 1024, MemberDto.class))
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	void rejectsUnsupportedFieldTypesAtRegistration() {
+		assertThatThrownBy(() -> new CompactRedisSerializer("com.twothree.backend.", 1024, PriceDto.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("PriceDto.amount");
+		assertThatThrownBy(() -> new CompactRedisSerializer("com.twothree.backend.", 1024, TagsDto.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("TagsDto.tags");
+		assertThatThrownBy(() -> new CompactRedisSerializer("com.twothree.backend.", 1024, EventDto.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("EventDto.at");
+	}
+
+	private List<MemberDto> members(int count) {
+		List<MemberDto> members = new ArrayList<>();
+		for (long i = 1; i <= count; i++) {
+			members.add(MemberDto.builder()
+					.id(i)
+					.name("교인" + i)
+					.email("member" + i + "@church.org")
+					.phone("010-1234-" + String.format("%04d", i))
+					.birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+					.status(MemberStatus.ACTIVE)
+					.role(MemberRole.MEMBER)
+					.churchId(1L)
+					.departmentId(i % 5)
+					.departmentName("부서" + (i % 5))
+					.createdAt(LocalDateTime.of(2024, 3, 1, 10, 0).plusMinutes(i))
+					.build());
+		}
+		return members;
+	}
+
+	static class PriceDto {
+		private BigDecimal amount;
+	}
+
+	static class TagsDto {
+		private Map<String, String> tags;
+	}
+
+	static class EventDto {
+		private Instant at;
+	}
+}
@@ -0,0 +1,91 @@
+package com.twothree.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheTest {
+
+	private static final String KEY = "1";
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+	private final CountDownLatch loading = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void coalescedCallerReceivesLoaderError() throws Exception {
+		TwoLevelCache cache = cache(1.0);
+		Future<Object> loader = executor.submit(() -> cache.get(KEY, () -> {
+			loading.countDown();
+			release.await();
+			throw new LinkageError("적재 실패");
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 적재 중인 키에 합류한 호출이 대기에 들어간 뒤 적재를 끝냄
+		AtomicReference<Thread> waiterThread = new AtomicReference<>();
+		Future<Object> waiter = executor.submit(() -> {
+			waiterThread.set(Thread.currentThread());
+			return cache.get(KEY, () -> "unused");
+		});
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (waiterThread.get() == null || waiterThread.get().getState() != Thread.State.WAITING) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class).hasCauseInstanceOf(LinkageError.class);
+		assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class).hasCauseInstanceOf(LinkageError.class);
+	}
+
+	@Test
+	void failedEarlyRefreshIsNotReturnedToConcurrentLoad() throws Exception {
+		// beta를 크게 잡아 조회할 때마다 조기 갱신
+		TwoLevelCache cache = cache(1e9);
+		cache.put(KEY, "old");
+		Future<Object> refresher = executor.submit(() -> cache.get(KEY, () -> {
+			loading.countDown();
+			release.await();
+			throw new IllegalStateException("갱신 실패");
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 갱신 중 무효화된 키를 다시 적재하는 호출은 갱신 결과를 기다리지 않고 직접 적재
+		cache.evict(KEY);
+		Future<Object> loader = executor.submit(() -> cache.get(KEY, () -> "new"));
+
+		assertThat(loader.get(5, TimeUnit.SECONDS)).isEqualTo("new");
+		release.countDown();
+		assertThat(refresher.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+	}
+
+	private static TwoLevelCache cache(double beta) {
+		StampedeGuard guard = new StampedeGuard(null, null, "test", false, Duration.ofSeconds(10),
+				Duration.ofMillis(100), Duration.ofMillis(10), beta, Duration.ofSeconds(1));
+		return new TwoLevelCache("test", Caffeine.newBuilder().build(), new ConcurrentMapCache("test", false),
+				mock(CacheInvalidationPublisher.class), Duration.ofHours(1), guard);
+	}
+}
@@ -0,0 +1,82 @@
+package com.twothree.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 경로 판별 정확도와 요청당 비용 비교
+ *
+ * 기존 substring 비교가 통과시키던 경로가 더 이상 공개로 판별되지 않는지 확인하고,
+ * 컴파일된 PathPattern 매칭의 요청당 비용을 기존 방식과 함께 로그로 남깁니다.
+ */
+class PublicRoutesBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(PublicRoutesBenchmarkTest.class);
+
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	private static final List<String> PATHS = List.of(
+			"/api/auth/signin",
+			"/api/members/list",
+			"/api/churches/123/departments",
+			"/api/users/me",
+			"/api/contents/search",
+			"/actuator/prometheus");
+
+	private final PublicRoutes publicRoutes = new PublicRoutes();
+
+	@Test
+	void matchesWholeSegmentsOnly() {
+		assertThat(publicRoutes.matches("/api/auth")).isTrue();
+		assertThat(publicRoutes.matches("/api/auth/signin")).isTrue();
+		assertThat(publicRoutes.matches("/api/members/list")).isTrue();
+		assertThat(publicRoutes.matches("/swagger-ui/index.html")).isTrue();
+
+		assertThat(publicRoutes.matches("/api/membersX")).isFalse();
+		assertThat(publicRoutes.matches("/foo/api/churches")).isFalse();
+		assertThat(publicRoutes.matches("/api/users/me")).isFalse();
+		assertThat(publicRoutes.matches("/api/import/api/test")).isFalse();
+	}
+
+	@Test
+	void perRequestMatchingCost() {
+		long blackhole = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			String path = PATHS.get(i % PATHS.size());
+			blackhole += legacyMatches(path) ? 1 : 0;
+			blackhole += publicRoutes.matches(path) ? 1 : 0;
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			blackhole += legacyMatches(PATHS.get(i % PATHS.size())) ? 1 : 0;
+		}
+		long legacyNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			blackhole += publicRoutes.matches(PATHS.get(i % PATHS.size())) ? 1 : 0;
+		}
+		long compiledNanos = System.nanoTime() - start;
+
+		log.info("공개 경로 판별 - substring: {} ns/req, PathPattern: {} ns/req ({})",
+				String.format("%.1f", (double) legacyNanos / ITERATIONS),
+				String.format("%.1f", (double) compiledNanos / ITERATIONS), blackhole);
+		assertThat(blackhole).isPositive();
+	}
+
+	/**
+	 * 기존 JwtAuthenticationFilter의 판별 방식
+	 */
+	private static boolean legacyMatches(String path) {
+		return path.contains("/api/auth") || path.contains("/api/test") ||
+				path.contains("/api/churches") || path.contains("/api/departments") ||
+				path.contains("/api/members");
+	}
+}
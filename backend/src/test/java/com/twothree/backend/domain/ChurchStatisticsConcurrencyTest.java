@@ -0,0 +1,189 @@
+package com.twothree.backend.domain;
+
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.ChurchStatistic;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.enums.StatisticMetric;
+import com.twothree.backend.repository.ChurchStatisticRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 쓰기 중 카운터 정확성
+ *
+ * 스레드마다 별도 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지웁니다.
+ */
+@DataJpaTest
+@Import({ChurchStatisticsDomainService.class, ChurchStatisticRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChurchStatisticsConcurrencyTest {
+
+	private static final int WRITERS = 6;
+	private static final int MEMBERS_PER_WRITER = 40;
+	private static final int RECONCILERS = 2;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ChurchStatisticsDomainService churchStatisticsDomainService;
+
+	private TransactionTemplate transaction;
+	private Church church;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		church = transaction.execute(status -> {
+			Church saved = Church.builder()
+					.name("동시성교회")
+					.address("서울시")
+					.status(ChurchStatus.ACTIVE)
+					.build();
+			entityManager.persist(saved);
+			return saved;
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM church_statistics WHERE church_id = ?", church.getId());
+		jdbcTemplate.update("DELETE FROM members WHERE church_id = ?", church.getId());
+		jdbcTemplate.update("DELETE FROM churches WHERE id = ?", church.getId());
+	}
+
+	@Test
+	void concurrentIncrementsOnSameCounterAreNotLost() throws Exception {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int w = 0; w < WRITERS; w++) {
+			tasks.add(() -> {
+				for (int i = 0; i < MEMBERS_PER_WRITER; i++) {
+					// 카운터만 증감 (같은 버킷 행을 모든 스레드가 갱신)
+					transaction.executeWithoutResult(status -> churchStatisticsDomainService.memberAdded(member("m", Gender.MALE)));
+				}
+				return null;
+			});
+		}
+
+		runAll(tasks);
+
+		assertThat(countersOf(StatisticMetric.MEMBER_STATUS))
+				.containsEntry(MemberStatus.ACTIVE.name(), (long) WRITERS * MEMBERS_PER_WRITER);
+	}
+
+	@Test
+	void reconcileDuringWritesKeepsCountersExact() throws Exception {
+		AtomicBoolean writing = new AtomicBoolean(true);
+		List<Callable<Void>> writers = new ArrayList<>();
+		for (int w = 0; w < WRITERS; w++) {
+			int writer = w;
+			writers.add(() -> {
+				for (int i = 0; i < MEMBERS_PER_WRITER; i++) {
+					String name = "writer" + writer + "-" + i;
+					Gender gender = i % 2 == 0 ? Gender.MALE : Gender.FEMALE;
+					transaction.executeWithoutResult(status -> {
+						Member member = member(name, gender);
+						entityManager.persist(member);
+						churchStatisticsDomainService.memberAdded(member);
+					});
+				}
+				return null;
+			});
+		}
+		List<Callable<Void>> reconcilers = new ArrayList<>();
+		for (int r = 0; r < RECONCILERS; r++) {
+			reconcilers.add(() -> {
+				// 첫 조회 보정(비어 있는 교회)과 주기 보정이 쓰기와 겹치도록 반복
+				while (writing.get()) {
+					churchStatisticsDomainService.reconcile(church.getId());
+				}
+				return null;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS + RECONCILERS);
+		try {
+			List<Future<Void>> reconciling = reconcilers.stream().map(executor::submit).toList();
+			for (Future<Void> future : executor.invokeAll(writers)) {
+				future.get();
+			}
+			writing.set(false);
+			for (Future<Void> future : reconciling) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		long total = (long) WRITERS * MEMBERS_PER_WRITER;
+		// 마지막 보정 이후의 증감까지 반영되어 원본과 같아야 함 (보정 없이 비교)
+		assertThat(countersOf(StatisticMetric.MEMBER_STATUS)).containsEntry(MemberStatus.ACTIVE.name(), total);
+		assertThat(countersOf(StatisticMetric.MEMBER_ROLE)).containsEntry(MemberRole.MEMBER.name(), total);
+		assertThat(countersOf(StatisticMetric.MEMBER_GENDER))
+				.containsEntry(Gender.MALE.name(), total / 2)
+				.containsEntry(Gender.FEMALE.name(), total / 2);
+	}
+
+	private Member member(String name, Gender gender) {
+		return Member.builder()
+				.name(name)
+				.email(name + "@example.com")
+				.gender(gender)
+				.status(MemberStatus.ACTIVE)
+				.role(MemberRole.MEMBER)
+				.church(church)
+				.build();
+	}
+
+	private Map<String, Long> countersOf(StatisticMetric metric) {
+		return churchStatisticsDomainService.findByChurchId(church.getId()).stream()
+				.filter(statistic -> statistic.getMetric() == metric)
+				.collect(Collectors.toMap(ChurchStatistic::getBucket, ChurchStatistic::getTotal));
+	}
+
+	private static void runAll(List<Callable<Void>> tasks) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.twothree.backend.mapper;
+
+import com.twothree.backend.dto.ContentDto;
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.entity.ContentDepartment;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.enums.DepartmentStatus;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.repository.ContentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ContentDtoAssembler.class)
+class ContentDtoAssemblerTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ContentRepository contentRepository;
+
+	@Autowired
+	private ContentDtoAssembler assembler;
+
+	private Statistics statistics;
+
+	private List<Long> departmentIds;
+
+	@BeforeEach
+	void setUp() {
+		Church church = Church.builder()
+				.name("테스트교회")
+				.address("서울시")
+				.status(ChurchStatus.ACTIVE)
+				.build();
+		entityManager.persist(church);
+
+		Member author = Member.builder()
+				.name("작성자")
+				.email("author@example.com")
+				.gender(Gender.MALE)
+				.status(MemberStatus.ACTIVE)
+				.role(MemberRole.MEMBER)
+				.church(church)
+				.build();
+		entityManager.persist(author);
+
+		Department first = Department.builder().name("청년부").church(church).status(DepartmentStatus.ACTIVE).build();
+		Department second = Department.builder().name("주일학교").church(church).status(DepartmentStatus.ACTIVE).build();
+		entityManager.persist(first);
+		entityManager.persist(second);
+		departmentIds = List.of(first.getId(), second.getId());
+
+		for (int i = 0; i < 40; i++) {
+			Content content = new Content();
+			content.setTitle("주보 " + i);
+			content.setBody("본문 " + i);
+			content.setAuthor(author);
+			content.setChurch(church);
+			entityManager.persist(content);
+
+			for (Department department : List.of(first, second)) {
+				ContentDepartment mapping = new ContentDepartment();
+				mapping.setContent(content);
+				mapping.setDepartment(department);
+				entityManager.persist(mapping);
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void pageIsAssembledWithConstantNumberOfStatements() {
+		long smallPage = statementsToAssemble(5);
+		long largePage = statementsToAssemble(20);
+
+		// 게시물 조회 1회 + 공개범위 부서 일괄 조회 1회
+		assertThat(smallPage).isEqualTo(2);
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void assembledDtosCarryAuthorChurchAndDepartments() {
+		List<Content> contents = contentRepository.findFeed(departmentIds, PageRequest.of(0, 20));
+
+		List<ContentDto> dtos = assembler.toDtoList(contents);
+
+		assertThat(dtos).hasSize(20);
+		assertThat(dtos).allSatisfy(dto -> {
+			assertThat(dto.getAuthorId()).isNotNull();
+			assertThat(dto.getChurchId()).isNotNull();
+			assertThat(dto.getDepartmentIds()).hasSize(2);
+		});
+	}
+
+	private long statementsToAssemble(int pageSize) {
+		entityManager.clear();
+		statistics.clear();
+
+		// 서비스가 쓰는 페이지 조회를 그대로 사용 (LIMIT이 쿼리에 적용됨)
+		List<Content> contents = contentRepository.findFeed(departmentIds, PageRequest.of(0, pageSize));
+		assertThat(contents).hasSize(pageSize);
+		assembler.toDtoList(contents);
+
+		return statistics.getPrepareStatementCount();
+	}
+}
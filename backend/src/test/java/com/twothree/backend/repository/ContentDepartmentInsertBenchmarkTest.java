@@ -0,0 +1,156 @@
+package com.twothree.backend.repository;
+
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.entity.ContentDepartment;
+import com.twothree.backend.entity.Department;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.enums.DepartmentStatus;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물-부서 매핑 대량 INSERT 처리량 비교
+ *
+ * 배치 전송(시퀀스 ID + order_inserts)과 INSERT마다 flush하는 방식(IDENTITY 시절과 같은 왕복 수)을
+ * 같은 데이터로 측정해 로그로 남기고, 배치 쪽 SQL 문 수가 매핑 수와 무관하게 줄어드는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ContentDepartmentInsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ContentDepartmentInsertBenchmarkTest.class);
+
+	private static final int CONTENTS = 20;
+	private static final int DEPARTMENTS = 50;
+	private static final int MAPPINGS = CONTENTS * DEPARTMENTS;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ContentDepartmentRepository contentDepartmentRepository;
+
+	private final List<Content> contents = new ArrayList<>();
+	private final List<Department> departments = new ArrayList<>();
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		Church church = Church.builder()
+				.name("벤치마크교회")
+				.address("서울시")
+				.status(ChurchStatus.ACTIVE)
+				.build();
+		entityManager.persist(church);
+
+		Member author = Member.builder()
+				.name("작성자")
+				.email("bench@example.com")
+				.gender(Gender.FEMALE)
+				.status(MemberStatus.ACTIVE)
+				.role(MemberRole.MEMBER)
+				.church(church)
+				.build();
+		entityManager.persist(author);
+
+		for (int i = 0; i < DEPARTMENTS; i++) {
+			Department department = Department.builder().name("부서 " + i).church(church).status(DepartmentStatus.ACTIVE).build();
+			entityManager.persist(department);
+			departments.add(department);
+		}
+		for (int i = 0; i < CONTENTS; i++) {
+			Content content = new Content();
+			content.setTitle("공지 " + i);
+			content.setBody("본문 " + i);
+			content.setAuthor(author);
+			content.setChurch(church);
+			entityManager.persist(content);
+			contents.add(content);
+		}
+		entityManager.flush();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void batchedMappingInsertUsesFewStatements() {
+		// 워밍업 후 측정 (각 측정은 같은 수의 매핑을 새로 넣음)
+		insertBatched();
+		insertRowByRow();
+
+		long[] rowByRow = insertRowByRow();
+		long[] batched = insertBatched();
+
+		log.info("content_departments INSERT {}건 - 건별 flush: {} ms, {} statements / 배치: {} ms, {} statements ({} rows/s)",
+				MAPPINGS, rowByRow[0], rowByRow[1], batched[0], batched[1],
+				String.format("%.0f", MAPPINGS * 1000.0 / Math.max(batched[0], 1)));
+
+		// 배치 50건당 INSERT 1회 + 시퀀스 50개당 조회 1회 (약 40회)
+		assertThat(batched[1]).isLessThan(MAPPINGS / 10);
+		assertThat(rowByRow[1]).isGreaterThanOrEqualTo(MAPPINGS);
+	}
+
+	/**
+	 * @return {경과 ms, 준비된 SQL 문 수}
+	 */
+	private long[] insertBatched() {
+		return measure(() -> {
+			contentDepartmentRepository.saveAll(newMappings());
+			entityManager.flush();
+		});
+	}
+
+	private long[] insertRowByRow() {
+		return measure(() -> {
+			for (ContentDepartment mapping : newMappings()) {
+				entityManager.persist(mapping);
+				entityManager.flush();
+			}
+		});
+	}
+
+	private long[] measure(Runnable insert) {
+		statistics.clear();
+		long started = System.nanoTime();
+		insert.run();
+		long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+		long statements = statistics.getPrepareStatementCount();
+		entityManager.clear();
+		contents.replaceAll(content -> entityManager.getReference(Content.class, content.getId()));
+		departments.replaceAll(department -> entityManager.getReference(Department.class, department.getId()));
+		return new long[] {elapsedMillis, statements};
+	}
+
+	private List<ContentDepartment> newMappings() {
+		List<ContentDepartment> mappings = new ArrayList<>(MAPPINGS);
+		for (Content content : contents) {
+			for (Department department : departments) {
+				ContentDepartment mapping = new ContentDepartment();
+				mapping.setContent(content);
+				mapping.setDepartment(department);
+				mappings.add(mapping);
+			}
+		}
+		return mappings;
+	}
+}
@@ -0,0 +1,83 @@
+package com.twothree.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 쓰는 조회가 Flyway 인덱스를 타는지 PostgreSQL 실행 계획으로 확인
+ *
+ * 빈 테이블에서는 순차 스캔이 더 싸게 계산되므로 enable_seqscan을 끄고, 그래도 순차 스캔이 남으면
+ * 쓸 수 있는 인덱스가 없다는 뜻으로 보고 실패시킵니다. 조회 형태는 리포지토리 쿼리가 만드는 SQL과 맞춥니다.
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=true",
+		"spring.flyway.locations=classpath:db/migration/{vendor}",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryIndexUsageTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void disableSequentialScan() {
+		// 테스트 트랜잭션 안에서만 적용
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	static Stream<Arguments> hotQueries() {
+		return Stream.of(
+				Arguments.of("members", "SELECT * FROM members WHERE church_id = 1 AND id > 0 ORDER BY id LIMIT 100"),
+				Arguments.of("members", "SELECT * FROM members WHERE church_id = 1 AND status = 'ACTIVE'"),
+				Arguments.of("members", "SELECT * FROM members WHERE church_id = 1 AND role = 'LEADER'"),
+				Arguments.of("members", "SELECT * FROM members WHERE church_id = 1 "
+						+ "AND birth_date BETWEEN DATE '2000-01-01' AND DATE '2000-12-31'"),
+				Arguments.of("members", "SELECT id FROM members WHERE department_id = 1"),
+				Arguments.of("departments", "SELECT * FROM departments WHERE church_id = 1 AND status = 'ACTIVE' "
+						+ "AND category = 'YOUTH'"),
+				Arguments.of("departments", "SELECT * FROM departments WHERE church_id = 1 AND category = 'YOUTH'"),
+				Arguments.of("departments", "SELECT id, name FROM departments WHERE church_id = 1"),
+				Arguments.of("content_departments", "SELECT DISTINCT content_id FROM content_departments "
+						+ "WHERE department_id IN (1, 2, 3)"),
+				Arguments.of("content_departments", "SELECT department_id FROM content_departments WHERE content_id = 1"),
+				Arguments.of("member_departments", "SELECT department_id FROM member_departments WHERE member_id = 1"),
+				Arguments.of("member_relations", "SELECT child_id FROM member_relations WHERE parent_id = 1"),
+				Arguments.of("contents", "SELECT * FROM contents WHERE church_id = 1 "
+						+ "ORDER BY created_at DESC, id DESC LIMIT 20"),
+				Arguments.of("contents", "SELECT c.* FROM contents c WHERE EXISTS ("
+						+ "SELECT 1 FROM content_departments cd WHERE cd.content_id = c.id AND cd.department_id IN (1, 2)) "
+						+ "ORDER BY c.created_at DESC, c.id DESC LIMIT 20"));
+	}
+
+	@ParameterizedTest(name = "{1}")
+	@MethodSource("hotQueries")
+	void usesIndex(String table, String sql) {
+		List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+		assertThat(String.join("\n", plan))
+				.as("실행 계획: %s", sql)
+				.doesNotContain("Seq Scan on " + table);
+	}
+}
@@ -0,0 +1,129 @@
+package com.twothree.backend.search;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.dto.MemberDto;
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멤버 자동완성: 인덱스 조회와 기존 JPQL LIKE '%kw%' 조회 비교 (멤버 1만/10만 명)
+ *
+ * 관리 화면이 키 입력마다 호출하는 형태로 같은 키워드 목록을 반복 실행해 키워드당 중앙값을 로그로 남기고,
+ * 인덱스가 키워드마다 결과를 찾는지와 JPQL보다 빠른지 확인합니다.
+ */
+@DataJpaTest
+@Import(MemberTypeaheadIndex.class)
+class MemberTypeaheadBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(MemberTypeaheadBenchmarkTest.class);
+
+	private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+	private static final String[] GIVEN = {"민", "서", "지", "현", "우", "준", "하", "윤", "수", "영", "철", "은"};
+	// 입력 중인 글자, 초성, 이름 중간, 이메일, 전화번호 뒷자리
+	private static final String[] KEYWORDS = {"김", "김ㅁ", "박서", "ㅊㅈ", "준하", "user12", "5678"};
+	private static final int LIMIT = 10;
+	private static final int INDEX_RUNS = 200;
+	private static final int QUERY_RUNS = 5;
+	// 시퀀스가 발급하는 ID와 겹치지 않도록 JDBC로 넣는 멤버는 큰 ID부터 사용
+	private static final long ID_BASE = 10_000_000L;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private MemberTypeaheadIndex memberTypeaheadIndex;
+
+	@MockitoBean
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@ParameterizedTest
+	@ValueSource(ints = {10_000, 100_000})
+	void indexAnswersFasterThanLikeQuery(int members) {
+		Long churchId = insertMembers(members);
+		memberTypeaheadIndex.rebuild();
+
+		for (String keyword : KEYWORDS) {
+			List<MemberDto> indexed = memberTypeaheadIndex.search(churchId, keyword, LIMIT);
+			List<Member> queried = memberRepository.searchByKeywordAndChurchId(keyword, churchId);
+			entityManager.clear();
+			// 초성/자모 입력은 LIKE로는 찾지 못하고, 숫자는 인덱스가 전화번호로만 찾으므로 건수 대신 일치 여부만 확인
+			assertThat(indexed).isNotEmpty().hasSizeLessThanOrEqualTo(LIMIT);
+
+			long indexNanos = median(INDEX_RUNS, () -> memberTypeaheadIndex.search(churchId, keyword, LIMIT));
+			long queryNanos = median(QUERY_RUNS, () -> {
+				List<Member> result = memberRepository.searchByKeywordAndChurchId(keyword, churchId);
+				entityManager.clear();
+				return result;
+			});
+			log.info("자동완성 {}명 - keyword: {}, 인덱스: {} us, JPQL: {} us (JPQL 결과 {}건)",
+					members, keyword, indexNanos / 1_000, queryNanos / 1_000, queried.size());
+
+			assertThat(indexNanos).isLessThan(queryNanos);
+		}
+	}
+
+	private Long insertMembers(int count) {
+		Church church = Church.builder()
+				.name("자동완성교회")
+				.address("서울시")
+				.status(ChurchStatus.ACTIVE)
+				.build();
+		entityManager.persist(church);
+		entityManager.flush();
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String name = SURNAMES[i % SURNAMES.length]
+					+ GIVEN[(i / SURNAMES.length) % GIVEN.length]
+					+ GIVEN[(i / (SURNAMES.length * GIVEN.length)) % GIVEN.length];
+			String phone = String.format("010-%04d-%04d", i % 10_000, (i * 7919) % 10_000);
+			rows.add(new Object[] {ID_BASE + i, name, "user" + i + "@example.com", phone,
+					i % 2 == 0 ? "MALE" : "FEMALE", "ACTIVE", "MEMBER", church.getId(), now, now});
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO members (id, name, email, phone, gender, status, role, church_id, created_at, updated_at) " +
+				"VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		return church.getId();
+	}
+
+	private static long median(int runs, Supplier<?> call) {
+		// 워밍업 1회 후 측정
+		call.get();
+		long[] samples = new long[runs];
+		for (int i = 0; i < runs; i++) {
+			long started = System.nanoTime();
+			call.get();
+			samples[i] = System.nanoTime() - started;
+		}
+		Arrays.sort(samples);
+		return samples[runs / 2];
+	}
+}
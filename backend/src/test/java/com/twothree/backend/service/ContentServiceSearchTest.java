@@ -0,0 +1,180 @@
+package com.twothree.backend.service;
+
+import com.twothree.backend.cache.CacheInvalidationPublisher;
+import com.twothree.backend.domain.ChurchStatisticsDomainService;
+import com.twothree.backend.domain.ContentVisibilityIndex;
+import com.twothree.backend.dto.ContentDto;
+import com.twothree.backend.dto.ContentSearchRequest;
+import com.twothree.backend.entity.Church;
+import com.twothree.backend.entity.Content;
+import com.twothree.backend.entity.Member;
+import com.twothree.backend.enums.ChurchStatus;
+import com.twothree.backend.enums.Gender;
+import com.twothree.backend.enums.MemberRole;
+import com.twothree.backend.enums.MemberStatus;
+import com.twothree.backend.mapper.ContentDtoAssembler;
+import com.twothree.backend.search.ContentSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ContentService.class, ContentDtoAssembler.class, ContentSearchIndex.class})
+class ContentServiceSearchTest {
+
+	// 제목 일치(가중치)로 상위를 차지하는 게시물 수 - 예전 후보 상한(1000)보다 많게
+	private static final int TITLE_MATCHES = 1200;
+	private static final int BODY_MATCHES = 30;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ContentService contentService;
+
+	@Autowired
+	private ContentSearchIndex contentSearchIndex;
+
+	@MockitoBean
+	private ContentVisibilityIndex contentVisibilityIndex;
+
+	@MockitoBean
+	private ChurchStatisticsDomainService churchStatisticsDomainService;
+
+	@MockitoBean
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	private Church church;
+	private Church otherChurch;
+	private Member bodyAuthor;
+
+	@BeforeEach
+	void setUp() {
+		church = persistChurch("테스트교회");
+		otherChurch = persistChurch("다른교회");
+		Member titleAuthor = persistMember("제목작성자", "title@example.com", church);
+		bodyAuthor = persistMember("본문작성자", "body@example.com", church);
+		Member otherAuthor = persistMember("다른작성자", "other@example.com", otherChurch);
+
+		for (int i = 0; i < TITLE_MATCHES; i++) {
+			persistContent("주일 예배 " + i, "순서 안내", titleAuthor, church);
+		}
+		for (int i = 0; i < BODY_MATCHES; i++) {
+			persistContent("광고 " + i, "수요 예배 장소 변경", bodyAuthor, church);
+		}
+		// 한 글자 검색어가 더 긴 단어 안에만 있는 게시물
+		persistContent("주보 배부", "광고", otherAuthor, otherChurch);
+
+		entityManager.flush();
+		entityManager.clear();
+		contentSearchIndex.rebuild();
+	}
+
+	@Test
+	void filtersApplyToEveryIndexMatchNotOnlyTopRanked() {
+		ContentSearchRequest req = request("예배");
+		req.setAuthorId(bodyAuthor.getId());
+		req.setSize(50);
+
+		Page<ContentDto> page = contentService.searchContents(req);
+
+		// 관련도가 낮은 본문 일치만 남는 조건이어도 전부 찾아야 함
+		assertThat(page.getTotalElements()).isEqualTo(BODY_MATCHES);
+		assertThat(page.getContent()).hasSize(BODY_MATCHES)
+				.allSatisfy(dto -> assertThat(dto.getAuthorId()).isEqualTo(bodyAuthor.getId()));
+	}
+
+	@Test
+	void totalCountsAllMatchesWhenSortedByCreatedAt() {
+		ContentSearchRequest req = request("예배");
+		req.setChurchId(church.getId());
+		req.setSortBy("createdAt");
+
+		Page<ContentDto> page = contentService.searchContents(req);
+
+		assertThat(page.getTotalElements()).isEqualTo(TITLE_MATCHES + BODY_MATCHES);
+		assertThat(page.getContent()).hasSize(20);
+	}
+
+	@Test
+	void oneCharacterKeywordMatchesInsideLongerWords() {
+		assertThat(contentSearchIndex.supports("주")).isFalse();
+		assertThat(contentSearchIndex.supports("주 예배")).isFalse();
+		assertThat(contentSearchIndex.supports("예배")).isTrue();
+
+		ContentSearchRequest req = request("주");
+		req.setChurchId(otherChurch.getId());
+
+		Page<ContentDto> page = contentService.searchContents(req);
+
+		assertThat(page.getTotalElements()).isEqualTo(1);
+		assertThat(page.getContent().get(0).getTitle()).isEqualTo("주보 배부");
+	}
+
+	@Test
+	void sortByCreatedAtWithoutMatchesReturnsEmptyPage() {
+		ContentSearchRequest req = request("없는검색어");
+		req.setSortBy("createdAt");
+
+		Page<ContentDto> page = contentService.searchContents(req);
+
+		assertThat(page.getTotalElements()).isZero();
+	}
+
+	@Test
+	void relevanceSortFallsBackToCreatedAtOnDatabaseSearch() {
+		// 한 글자 검색어는 DB 검색으로 처리되며 relevance는 정렬 필드가 아님
+		ContentSearchRequest req = request("주");
+		req.setChurchId(otherChurch.getId());
+		req.setSortBy("relevance");
+
+		Page<ContentDto> page = contentService.searchContents(req);
+
+		assertThat(page.getTotalElements()).isEqualTo(1);
+	}
+
+	private ContentSearchRequest request(String keyword) {
+		ContentSearchRequest req = new ContentSearchRequest();
+		req.setKeyword(keyword);
+		return req;
+	}
+
+	private Church persistChurch(String name) {
+		Church church = Church.builder()
+				.name(name)
+				.address("서울시")
+				.status(ChurchStatus.ACTIVE)
+				.build();
+		entityManager.persist(church);
+		return church;
+	}
+
+	private Member persistMember(String name, String email, Church church) {
+		Member member = Member.builder()
+				.name(name)
+				.email(email)
+				.gender(Gender.MALE)
+				.status(MemberStatus.ACTIVE)
+				.role(MemberRole.MEMBER)
+				.church(church)
+				.build();
+		entityManager.persist(member);
+		return member;
+	}
+
+	private void persistContent(String title, String body, Member author, Church church) {
+		Content content = new Content();
+		content.setTitle(title);
+		content.setBody(body);
+		content.setAuthor(author);
+		content.setChurch(church);
+		entityManager.persist(content);
+	}
+}